@@ -1,18 +1,47 @@
 package Maze.Runner;
 
+import Maze.Runner.config.Config;
 import Maze.Runner.screens.MainMenuScreen;
+import Maze.Runner.world.AsyncLevelLoader;
+import Maze.Runner.world.MapCache;
+import Maze.Runner.world.MazeLoader;
+import Maze.Runner.world.TextureRegistry;
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 
 public class MazeGame extends Game {
     private SpriteBatch batch;
+    private TextureRegistry textures;
+    private AsyncLevelLoader levelLoader;
+    private GLProfiler profiler;
+    private int statFrames;
+    private int statBindings;
+    private int statDrawCalls;
+    private int statBatchFlushes;
+    private float statTime;
 
     // ... your other code ...
 
     @Override
     public void create() {
         batch = new SpriteBatch();
+        textures = new TextureRegistry();
+        FileHandle atlasFile = Gdx.files.internal(Config.TEXTURE_ATLAS);
+        if (atlasFile.exists()) {
+            textures.setAtlas(new TextureAtlas(atlasFile));
+        }
+        if (Config.RENDER_STATS) {
+            profiler = new GLProfiler(Gdx.graphics);
+            profiler.enable();
+        }
+        MapCache mapCache = new MapCache(
+            Gdx.files.local(Config.MAP_CACHE_FOLDER).file().toPath(), Config.MAP_CACHE_MAX_BYTES);
+        levelLoader = new AsyncLevelLoader(new MazeLoader(textures, mapCache));
         setScreen((Screen) new MainMenuScreen(this));
     }
 
@@ -29,6 +58,33 @@ public class MazeGame extends Game {
         }
     }
 
+    @Override
+    public void render() {
+        levelLoader.update();
+        int flushesBefore = batch.totalRenderCalls;
+        super.render();
+        if (profiler != null) recordRenderStats(batch.totalRenderCalls - flushesBefore);
+    }
+
+    /**
+     * Accumulate this frame's GL counters and log per-frame averages once a second.
+     */
+    private void recordRenderStats(int batchFlushes) {
+        statFrames++;
+        statBindings += profiler.getTextureBindings();
+        statDrawCalls += profiler.getDrawCalls();
+        statBatchFlushes += batchFlushes;
+        profiler.reset();
+        statTime += Gdx.graphics.getDeltaTime();
+        if (statTime < 1f) return;
+
+        Gdx.app.log("RENDER", String.format("per frame: %.1f texture binds, %.1f draw calls, %.1f batch flushes (%s)",
+            statBindings / (float) statFrames, statDrawCalls / (float) statFrames,
+            statBatchFlushes / (float) statFrames, textures));
+        statFrames = statBindings = statDrawCalls = statBatchFlushes = 0;
+        statTime = 0;
+    }
+
     @Override
     public void dispose() {
         Screen screen = getScreen();
@@ -36,9 +92,26 @@ public class MazeGame extends Game {
             screen.dispose();
         }
         batch.dispose();
+        if (profiler != null) profiler.disable();
+        levelLoader.dispose();
+        textures.dispose();
     }
 
     public SpriteBatch getBatch() {
         return batch;
     }
+
+    /**
+     * Level textures shared across loads; pass to MazeLoader.
+     */
+    public TextureRegistry getTextures() {
+        return textures;
+    }
+
+    /**
+     * Background level loading; results are delivered on the render thread.
+     */
+    public AsyncLevelLoader getLevelLoader() {
+        return levelLoader;
+    }
 }
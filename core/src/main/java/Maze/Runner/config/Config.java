@@ -7,9 +7,26 @@ public class Config {
 
     public static final String MAPS_FOLDER = "maps/";
     public static final String DEFAULT_MAP = MAPS_FOLDER + "level1.properties";
+    // Campaign order; the level after the one being played is prefetched in the background
+    public static final String[] LEVELS = { DEFAULT_MAP, MAPS_FOLDER + "level2.properties" };
+    // All levels in one file, built by the packMaps Gradle task; load with LEVEL_PACK + "#" + id
+    public static final String LEVEL_PACK = MAPS_FOLDER + "levels.mzp";
 
     public static final String CONTROLS_CONFIG_FILE = "config/controls.json";
     public static final String SAVE_FILE = "saves/savegame.json";
     public static final String LEADERBOARD_FILE = "saves/leaderboard.json";
     public static final String ACHIEVEMENTS_FILE = "config/achievements.json";
+
+    // Dev mode: apply edits to the running level's map file live (run with -Dmaze.hotReload=true)
+    public static final boolean HOT_RELOAD_MAPS = Boolean.getBoolean("maze.hotReload");
+
+    // Parsed-map cache (local storage), least recently used entries are evicted past the limit
+    public static final String MAP_CACHE_FOLDER = "cache/maps";
+    public static final long MAP_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+
+    // UI and game object images packed by the packTextures Gradle task; loose files are used without it
+    public static final String TEXTURE_ATLAS = "atlas/game.atlas";
+
+    // Log texture binds, draw calls and batch flushes once per second (run with -Dmaze.renderStats=true)
+    public static final boolean RENDER_STATS = Boolean.getBoolean("maze.renderStats");
 }
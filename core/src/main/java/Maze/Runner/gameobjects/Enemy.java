@@ -1,6 +1,6 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import Maze.Runner.utils.Constants;
 
@@ -18,7 +18,7 @@ public abstract class Enemy extends GameObject {
 
     protected State state = State.PATROL;
 
-    public Enemy(float x, float y, Texture texture) {
+    public Enemy(float x, float y, TextureRegion texture) {
         super(x, y, texture, Constants.TILE_SIZE, Constants.TILE_SIZE);
     }
 
@@ -27,7 +27,7 @@ public abstract class Enemy extends GameObject {
     }
 
     protected void moveBy(Vector2 delta) {
-        position.add(delta);
+        translate(delta.x, delta.y);
     }
 
     /**
@@ -1,12 +1,12 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Player spawn location.
  */
 public class Entry extends StaticGameObject {
-    public Entry(float x, float y, Texture texture) {
+    public Entry(float x, float y, TextureRegion texture) {
         super(x, y, texture);
     }
 }
@@ -1,13 +1,13 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Enemy that prefers to keep distance from the player (logic later).
  */
 public class EvadeEnemy extends Enemy {
 
-    public EvadeEnemy(float x, float y, Texture texture) {
+    public EvadeEnemy(float x, float y, TextureRegion texture) {
         super(x, y, texture);
     }
 
@@ -1,12 +1,12 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Maze exit; requires key to use.
  */
 public class Exit extends StaticGameObject {
-    public Exit(float x, float y, Texture texture) {
+    public Exit(float x, float y, TextureRegion texture) {
         super(x, y, texture);
     }
 }
@@ -1,9 +1,10 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import Maze.Runner.utils.Constants;
 
 /**
@@ -14,8 +15,9 @@ public abstract class GameObject {
     protected Vector2 position;   // grid position (in tiles)
     protected Sprite sprite;
     protected boolean active = true;
+    protected Array<PositionListener> positionListeners;   // created on the first listener
 
-    public GameObject(float x, float y, Texture texture, float width, float height) {
+    public GameObject(float x, float y, TextureRegion texture, float width, float height) {
         this.position = new Vector2(x, y);
         if (texture != null) {
             this.sprite = new Sprite(texture);
@@ -45,7 +47,43 @@ public abstract class GameObject {
     }
 
     public void setPosition(float x, float y) {
+        float oldX = position.x;
+        float oldY = position.y;
         position.set(x, y);
+        notifyMoved(oldX, oldY);
+    }
+
+    /**
+     * Move by (dx, dy) tiles and notify the position listeners.
+     */
+    protected void translate(float dx, float dy) {
+        float oldX = position.x;
+        float oldY = position.y;
+        position.add(dx, dy);
+        notifyMoved(oldX, oldY);
+    }
+
+    private void notifyMoved(float oldX, float oldY) {
+        if (positionListeners == null) return;
+        for (int i = 0; i < positionListeners.size; i++) {
+            positionListeners.items[i].onMoved(this, oldX, oldY);
+        }
+    }
+
+    /**
+     * Register a listener for position changes, e.g. a spatial index; added once however often it is passed.
+     */
+    public void addPositionListener(PositionListener listener) {
+        if (positionListeners == null) positionListeners = new Array<>(false, 2, PositionListener[]::new);
+        if (!positionListeners.contains(listener, true)) positionListeners.add(listener);
+    }
+
+    public void removePositionListener(PositionListener listener) {
+        if (positionListeners != null) positionListeners.removeValue(listener, true);
+    }
+
+    public Sprite getSprite() {
+        return sprite;
     }
 
     public boolean isActive() {
@@ -1,6 +1,6 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Allows the player to pass through enemies for a duration.
@@ -9,7 +9,7 @@ public class GhostModePowerUp extends PowerUp {
 
     private final float duration;
 
-    public GhostModePowerUp(float x, float y, Texture texture, float duration) {
+    public GhostModePowerUp(float x, float y, TextureRegion texture, float duration) {
         super(x, y, texture);
         this.duration = duration;
     }
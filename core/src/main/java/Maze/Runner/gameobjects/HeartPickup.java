@@ -1,12 +1,12 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Collectable that grants an extra life.
  */
 public class HeartPickup extends StaticGameObject {
-    public HeartPickup(float x, float y, Texture texture) {
+    public HeartPickup(float x, float y, TextureRegion texture) {
         super(x, y, texture);
     }
 }
@@ -1,19 +1,40 @@
 package Maze.Runner.gameobjects;
 
 import Maze.Runner.gameobjects.Enemy;
-import com.badlogic.gdx.graphics.Texture;
+import Maze.Runner.utils.Direction;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 
 /**
- * Enemy intended to chase the player using pathfinding (logic added later).
+ * Enemy that chases the player, stepping along a shared {@link PathGuide}
+ * (the chase flow field) instead of searching a path of its own.
  */
 public class KamikazeEnemy extends Enemy {
 
-    public KamikazeEnemy(float x, float y, Texture texture) {
+    private static final float STEP_INTERVAL = 0.3f;
+
+    private PathGuide guide;
+    private float moveTimer = 0f;
+
+    public KamikazeEnemy(float x, float y, TextureRegion texture) {
         super(x, y, texture);
+        this.state = State.ATTACK;
+    }
+
+    public void setPathGuide(PathGuide guide) {
+        this.guide = guide;
     }
 
     @Override
     public void update(float deltaTime) {
-        // Pathfinding towards player will be implemented later in GameScreen context.
+        if (guide == null) return;
+        moveTimer += deltaTime;
+        if (moveTimer >= STEP_INTERVAL) {
+            moveTimer = 0f;
+            Direction step = guide.nextStep(MathUtils.floor(position.x), MathUtils.floor(position.y));
+            if (step != Direction.NONE) {
+                moveBy(step.getVector());
+            }
+        }
     }
 }
@@ -1,12 +1,12 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Collectable key required to open exit.
  */
 public class Key extends StaticGameObject {
-    public Key(float x, float y, Texture texture) {
+    public Key(float x, float y, TextureRegion texture) {
         super(x, y, texture);
     }
 }
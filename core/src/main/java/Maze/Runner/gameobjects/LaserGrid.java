@@ -1,7 +1,7 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import Maze.Runner.utils.Constants;
 
 /**
@@ -21,7 +21,7 @@ public class LaserGrid extends StaticGameObject {
         VERTICAL
     }
 
-    public LaserGrid(float x, float y, Texture texture, FireDirection direction) {
+    public LaserGrid(float x, float y, TextureRegion texture, FireDirection direction) {
         super(x, y, texture);
         this.fireDir = direction;
     }
@@ -0,0 +1,14 @@
+package Maze.Runner.gameobjects;
+
+import Maze.Runner.utils.Direction;
+
+/**
+ * Tells a moving entity which way to step from a tile, e.g. towards the player.
+ */
+public interface PathGuide {
+
+    /**
+     * @return the step to take from (tileX, tileY), or {@link Direction#NONE} to stay
+     */
+    Direction nextStep(int tileX, int tileY);
+}
@@ -1,7 +1,7 @@
 package Maze.Runner.gameobjects;
 
 import Maze.Runner.utils.Direction;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 
 
@@ -14,7 +14,7 @@ public class PatrolEnemy extends Enemy {
     private float moveTimer = 0f;
     private static final float STEP_INTERVAL = 0.4f;
 
-    public PatrolEnemy(float x, float y, Texture texture) {
+    public PatrolEnemy(float x, float y, TextureRegion texture) {
         super(x, y, texture);
     }
 
@@ -24,7 +24,7 @@ public class PatrolEnemy extends Enemy {
         if (moveTimer >= STEP_INTERVAL) {
             moveTimer = 0f;
             Vector2 step = currentDir.getVector();
-            position.add(step);
+            moveBy(step);
         }
     }
 }
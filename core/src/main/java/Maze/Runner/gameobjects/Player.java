@@ -1,9 +1,9 @@
 package Maze.Runner.gameobjects;
 
 import Maze.Runner.utils.Direction;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import Maze.Runner.utils.Constants;
 /**
@@ -99,6 +99,7 @@ public class Player extends GameObject {
     private float invulnerabilityTimer;
     private int score;
     private int experience;
+    private final Vector2 tmpMovement = new Vector2();
 
     // Power-up timers
     private float shieldTimer;
@@ -112,7 +113,7 @@ public class Player extends GameObject {
      * @param y Starting Y coordinate (grid)
      * @param texture Player texture
      */
-    public Player(float x, float y, Texture texture) {
+    public Player(float x, float y, TextureRegion texture) {
         super(x, y, texture, Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT);
         this.inventory = new Inventory();
         this.lives = Constants.STARTING_LIVES;
@@ -212,8 +213,9 @@ public class Player extends GameObject {
 
         // Apply continuous movement
         float speed = Constants.MOVEMENT_SPEED * speedMultiplier;
-        Vector2 movement = direction.getVector().nor().scl(speed * deltaTime);
-        position.add(movement);
+        // Copy first: Direction vectors are shared by every entity
+        Vector2 movement = tmpMovement.set(direction.getVector()).nor().scl(speed * deltaTime);
+        translate(movement.x, movement.y);
     }
 
     /**
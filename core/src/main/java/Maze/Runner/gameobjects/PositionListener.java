@@ -0,0 +1,9 @@
+package Maze.Runner.gameobjects;
+
+/**
+ * Notified after a game object's grid position changes, e.g. to keep spatial indexes current.
+ */
+public interface PositionListener {
+
+    void onMoved(GameObject obj, float oldX, float oldY);
+}
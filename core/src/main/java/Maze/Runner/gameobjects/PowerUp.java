@@ -1,13 +1,13 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Base class for collectable power‑ups.
  */
 public abstract class PowerUp extends StaticGameObject {
 
-    public PowerUp(float x, float y, Texture texture) {
+    public PowerUp(float x, float y, TextureRegion texture) {
         super(x, y, texture);
     }
 
@@ -1,6 +1,6 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Grants a shield that absorbs one hit or lasts for a duration.
@@ -9,7 +9,7 @@ public class ShieldPowerUp extends PowerUp {
 
     private final float duration;
 
-    public ShieldPowerUp(float x, float y, Texture texture, float duration) {
+    public ShieldPowerUp(float x, float y, TextureRegion texture, float duration) {
         super(x, y, texture);
         this.duration = duration;
     }
@@ -1,7 +1,7 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import Maze.Runner.utils.Constants;
 
 /**
@@ -9,7 +9,7 @@ import Maze.Runner.utils.Constants;
  */
 public abstract class StaticGameObject extends GameObject {
 
-    public StaticGameObject(float x, float y, Texture texture) {
+    public StaticGameObject(float x, float y, TextureRegion texture) {
         super(x, y, texture, Constants.TILE_SIZE, Constants.TILE_SIZE);
     }
 
@@ -1,12 +1,12 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Static obstacle that damages the player on contact.
  */
 public class Trap extends StaticGameObject {
-    public Trap(float x, float y, Texture texture) {
+    public Trap(float x, float y, TextureRegion texture) {
         super(x, y, texture);
     }
 }
@@ -1,12 +1,12 @@
 package Maze.Runner.gameobjects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Non‑traversable wall tile.
  */
 public class Wall extends StaticGameObject {
-    public Wall(float x, float y, Texture texture) {
+    public Wall(float x, float y, TextureRegion texture) {
         super(x, y, texture);
     }
 }
@@ -4,11 +4,12 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import Maze.Runner.MazeGame;
+import Maze.Runner.world.TextureRegistry;
 
 /**
  * Character Select Screen - Choose character color before playing
@@ -18,26 +19,27 @@ import Maze.Runner.MazeGame;
  */
 public class CharacterSelectionScreen implements Screen {
     private final MazeGame game;
+    private final TextureRegistry.Owner textures;
     private final SpriteBatch batch;
     private BitmapFont titleFont;
 
 
     // ==================== ASSETS ====================
-    private Texture redCharacterSelectedTexture;
-    private Texture blueCharacterSelectedTexture;
-    private Texture greenCharacterSelectedTexture;
+    private TextureRegion redCharacterSelectedTexture;
+    private TextureRegion blueCharacterSelectedTexture;
+    private TextureRegion greenCharacterSelectedTexture;
 
 
-    private Texture leftArrowTexture;
-    private Texture rightArrowTexture;
+    private TextureRegion leftArrowTexture;
+    private TextureRegion rightArrowTexture;
 
-    private Texture homeButtonTexture;
-    private Texture homeButtonHoverTexture;
-    private Texture homeButtonPressedTexture;
+    private TextureRegion homeButtonTexture;
+    private TextureRegion homeButtonHoverTexture;
+    private TextureRegion homeButtonPressedTexture;
 
-    private Texture playButtonTexture;
-    private Texture playButtonHoverTexture;
-    private Texture playButtonPressedTexture;
+    private TextureRegion playButtonTexture;
+    private TextureRegion playButtonHoverTexture;
+    private TextureRegion playButtonPressedTexture;
 
     // ==================== BUTTON CLICK AREAS ====================
     private Rectangle leftArrowBounds;
@@ -57,10 +59,10 @@ public class CharacterSelectionScreen implements Screen {
     // ==================== SELECTED CHARACTER ====================
     private int currentCharacterIndex = 0;  // 0=RED, 1=BLUE, 2=GREEN
     private String[] characters = {"RED", "BLUE", "GREEN"};
-    private Texture[] characterTextures;
+    private TextureRegion[] characterTextures;
 
-    public Texture backgroundTexture;
-    private Texture selectYourCharacterTexture;
+    public TextureRegion backgroundTexture;
+    private TextureRegion selectYourCharacterTexture;
 
     enum ButtonState {
         NORMAL, HOVER, PRESSED
@@ -69,10 +71,11 @@ public class CharacterSelectionScreen implements Screen {
     // ==================== CONSTRUCTOR ====================
     public CharacterSelectionScreen(MazeGame game) {
         this.game = game;
+        this.textures = game.getTextures().newOwner();
         this.batch = game.getBatch();
 
         loadAssets();
-        characterTextures = new Texture[]{redCharacterSelectedTexture, blueCharacterSelectedTexture, greenCharacterSelectedTexture};
+        characterTextures = new TextureRegion[]{redCharacterSelectedTexture, blueCharacterSelectedTexture, greenCharacterSelectedTexture};
         initializeButtonBounds();
 
 
@@ -82,32 +85,32 @@ public class CharacterSelectionScreen implements Screen {
     private void loadAssets() {
         try {
             // Background texture
-            backgroundTexture = new Texture(Gdx.files.internal("background.png"));
+            backgroundTexture = textures.acquire("background.png");
 
             // Select Your Character title image
             try {
-                selectYourCharacterTexture = new Texture(Gdx.files.internal("select_your_character/select_character_pixel.png"));
+                selectYourCharacterTexture = textures.acquire("select_your_character/select_character_pixel.png");
             } catch (Exception e) {
                 System.out.println("⚠️  Select Your Character texture not found");
                 selectYourCharacterTexture = null;
             }
 
-            redCharacterSelectedTexture = new Texture(Gdx.files.internal("select_your_character/character/line_red_selected.png"));
-            blueCharacterSelectedTexture = new Texture(Gdx.files.internal("select_your_character/character/line_blue_selected.png"));
-            greenCharacterSelectedTexture = new Texture(Gdx.files.internal("select_your_character/character/line_green_selected.png"));
+            redCharacterSelectedTexture = textures.acquire("select_your_character/character/line_red_selected.png");
+            blueCharacterSelectedTexture = textures.acquire("select_your_character/character/line_blue_selected.png");
+            greenCharacterSelectedTexture = textures.acquire("select_your_character/character/line_green_selected.png");
 
             // Arrows
-            leftArrowTexture = new Texture(Gdx.files.internal("select_your_character/play(2).png"));
-            rightArrowTexture = new Texture(Gdx.files.internal("select_your_character/play(2).png"));
+            leftArrowTexture = textures.acquire("select_your_character/play(2).png");
+            rightArrowTexture = textures.acquire("select_your_character/play(2).png");
 
             // Buttons
-            homeButtonTexture = new Texture(Gdx.files.internal("select_your_character/buttons/home_button.png"));
-            homeButtonHoverTexture = new Texture(Gdx.files.internal("select_your_character/buttons/home_button_hover.png"));
-            homeButtonPressedTexture = new Texture(Gdx.files.internal("select_your_character/buttons/home_button_pressed.png"));
+            homeButtonTexture = textures.acquire("select_your_character/buttons/home_button.png");
+            homeButtonHoverTexture = textures.acquire("select_your_character/buttons/home_button_hover.png");
+            homeButtonPressedTexture = textures.acquire("select_your_character/buttons/home_button_pressed.png");
 
-            playButtonTexture = new Texture(Gdx.files.internal("select_your_character/buttons/button_play.png"));
-            playButtonHoverTexture = new Texture(Gdx.files.internal("select_your_character/buttons/button_play_hover.png"));
-            playButtonPressedTexture = new Texture(Gdx.files.internal("select_your_character/buttons/button_play_pressed.png"));
+            playButtonTexture = textures.acquire("select_your_character/buttons/button_play.png");
+            playButtonHoverTexture = textures.acquire("select_your_character/buttons/button_play_hover.png");
+            playButtonPressedTexture = textures.acquire("select_your_character/buttons/button_play_pressed.png");
 
             // Create bitmap font - VERY LARGE for title
             titleFont = new BitmapFont();
@@ -320,8 +323,8 @@ public class CharacterSelectionScreen implements Screen {
     }
 
     // ==================== DRAW BUTTON HELPER ====================
-    private void drawButton(Rectangle bounds, ButtonState state, Texture normalTex, Texture hoverTex, Texture pressedTex) {
-        Texture texture = normalTex;
+    private void drawButton(Rectangle bounds, ButtonState state, TextureRegion normalTex, TextureRegion hoverTex, TextureRegion pressedTex) {
+        TextureRegion texture = normalTex;
 
         if (state == ButtonState.HOVER && hoverTex != null) {
             texture = hoverTex;
@@ -335,7 +338,7 @@ public class CharacterSelectionScreen implements Screen {
     }
 
     // ==================== DRAW ARROW HELPER ====================
-    private void drawArrow(Rectangle bounds, ButtonState state, Texture texture, boolean flipped) {
+    private void drawArrow(Rectangle bounds, ButtonState state, TextureRegion texture, boolean flipped) {
         if (texture != null) {
             // Apply opacity/brightness based on state
             if (state == ButtonState.HOVER) {
@@ -380,25 +383,13 @@ public class CharacterSelectionScreen implements Screen {
     @Override
     public void dispose() {
         Gdx.input.setInputProcessor(null);
-        if (redCharacterSelectedTexture != null) redCharacterSelectedTexture.dispose();
-        if (blueCharacterSelectedTexture != null) blueCharacterSelectedTexture.dispose();
-        if (greenCharacterSelectedTexture != null) greenCharacterSelectedTexture.dispose();
+        textures.releaseAll();
 
-        if (leftArrowTexture != null) leftArrowTexture.dispose();
-        if (rightArrowTexture != null) rightArrowTexture.dispose();
 
-        if (homeButtonTexture != null) homeButtonTexture.dispose();
-        if (homeButtonHoverTexture != null) homeButtonHoverTexture.dispose();
-        if (homeButtonPressedTexture != null) homeButtonPressedTexture.dispose();
 
-        if (playButtonTexture != null) playButtonTexture.dispose();
-        if (playButtonHoverTexture != null) playButtonHoverTexture.dispose();
-        if (playButtonPressedTexture != null) playButtonPressedTexture.dispose();
 
         if (titleFont != null) titleFont.dispose();
-        if (backgroundTexture != null) backgroundTexture.dispose();
 
-        if (selectYourCharacterTexture != null) selectYourCharacterTexture.dispose();
 
 
 
@@ -4,32 +4,34 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import Maze.Runner.MazeGame;
+import Maze.Runner.world.TextureRegistry;
 
 public class GameOverScreen implements Screen {
     private final MazeGame game;
+    private final TextureRegistry.Owner textures;
     private final SpriteBatch batch;
 
     // Background + headline
-    private Texture backgroundTexture;              // e.g. game_over/background.png (if you have one)
-    private Texture gameOverHeadlineTexture;       // game_over/gameOver_headline/gameOver_pixel.png
+    private TextureRegion backgroundTexture;              // e.g. game_over/background.png (if you have one)
+    private TextureRegion gameOverHeadlineTexture;       // game_over/gameOver_headline/gameOver_pixel.png
 
     // Character textures (lost states)
-    private Texture redLoseTexture;
-    private Texture blueLoseTexture;
-    private Texture greenLoseTexture;
+    private TextureRegion redLoseTexture;
+    private TextureRegion blueLoseTexture;
+    private TextureRegion greenLoseTexture;
 
     // Buttons
-    private Texture homeButtonTexture;
-    private Texture homeButtonHoverTexture;
-    private Texture homeButtonPressedTexture;
+    private TextureRegion homeButtonTexture;
+    private TextureRegion homeButtonHoverTexture;
+    private TextureRegion homeButtonPressedTexture;
 
-    private Texture restartButtonTexture;
-    private Texture restartButtonHoverTexture;
-    private Texture restartButtonPressedTexture;
+    private TextureRegion restartButtonTexture;
+    private TextureRegion restartButtonHoverTexture;
+    private TextureRegion restartButtonPressedTexture;
 
     // Click areas
     private Rectangle characterBounds;
@@ -48,6 +50,7 @@ public class GameOverScreen implements Screen {
 
     public GameOverScreen(MazeGame game, String characterColor) {
         this.game = game;
+        this.textures = game.getTextures().newOwner();
         this.batch = game.getBatch();
         this.characterColor = characterColor;
 
@@ -57,29 +60,27 @@ public class GameOverScreen implements Screen {
     private void loadAssets() {
         try {
             // Optional background
-            try {
-                backgroundTexture = new Texture(Gdx.files.internal("game_over/background.png"));
-            } catch (Exception e) {
-                backgroundTexture = null;
-            }
+            // The registry substitutes a placeholder for missing files, so check first
+            backgroundTexture = Gdx.files.internal("game_over/background.png").exists()
+                ? textures.acquire("game_over/background.png") : null;
 
             // Headline "GAME OVER"
             gameOverHeadlineTexture =
-                new Texture(Gdx.files.internal("game_over/gameOver_headline/gameOver_pixel.png"));
+                textures.acquire("game_over/gameOver_headline/gameOver_pixel.png");
 
             // Character lose sprites
-            redLoseTexture   = new Texture(Gdx.files.internal("game_over/character_gameOver/line_red_lose.png"));
-            blueLoseTexture  = new Texture(Gdx.files.internal("game_over/character_gameOver/line_blue_lose.png"));
-            greenLoseTexture = new Texture(Gdx.files.internal("game_over/character_gameOver/line_green_lose.png"));
+            redLoseTexture   = textures.acquire("game_over/character_gameOver/line_red_lose.png");
+            blueLoseTexture  = textures.acquire("game_over/character_gameOver/line_blue_lose.png");
+            greenLoseTexture = textures.acquire("game_over/character_gameOver/line_green_lose.png");
 
             // Buttons – paths exactly as in your screenshot
-            homeButtonTexture         = new Texture(Gdx.files.internal("game_over/buttons/home_button.png"));
-            homeButtonHoverTexture    = new Texture(Gdx.files.internal("game_over/buttons/home_button_hover.png"));
-            homeButtonPressedTexture  = new Texture(Gdx.files.internal("game_over/buttons/home_button_pressed.png"));
+            homeButtonTexture         = textures.acquire("game_over/buttons/home_button.png");
+            homeButtonHoverTexture    = textures.acquire("game_over/buttons/home_button_hover.png");
+            homeButtonPressedTexture  = textures.acquire("game_over/buttons/home_button_pressed.png");
 
-            restartButtonTexture        = new Texture(Gdx.files.internal("game_over/buttons/restart_button.png"));
-            restartButtonHoverTexture   = new Texture(Gdx.files.internal("game_over/buttons/restart_button_hover.png"));
-            restartButtonPressedTexture = new Texture(Gdx.files.internal("game_over/buttons/restart_button_pressed.png"));
+            restartButtonTexture        = textures.acquire("game_over/buttons/restart_button.png");
+            restartButtonHoverTexture   = textures.acquire("game_over/buttons/restart_button_hover.png");
+            restartButtonPressedTexture = textures.acquire("game_over/buttons/restart_button_pressed.png");
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -178,7 +179,7 @@ public class GameOverScreen implements Screen {
             headlineBounds.width, headlineBounds.height);
 
         // Character based on color
-        Texture loseTex = redLoseTexture;
+        TextureRegion loseTex = redLoseTexture;
         if ("BLUE".equals(characterColor))  loseTex = blueLoseTexture;
         if ("GREEN".equals(characterColor)) loseTex = greenLoseTexture;
 
@@ -197,8 +198,8 @@ public class GameOverScreen implements Screen {
     }
 
     private void drawButton(Rectangle b, ButtonState state,
-                            Texture normal, Texture hover, Texture pressed) {
-        Texture t = normal;
+                            TextureRegion normal, TextureRegion hover, TextureRegion pressed) {
+        TextureRegion t = normal;
         if (state == ButtonState.HOVER && hover != null) t = hover;
         if (state == ButtonState.PRESSED && pressed != null) t = pressed;
         batch.draw(t, b.x, b.y, b.width, b.height);
@@ -213,17 +214,7 @@ public class GameOverScreen implements Screen {
 
     @Override
     public void dispose() {
-        if (backgroundTexture != null) backgroundTexture.dispose();
-        if (gameOverHeadlineTexture != null) gameOverHeadlineTexture.dispose();
-        if (redLoseTexture != null) redLoseTexture.dispose();
-        if (blueLoseTexture != null) blueLoseTexture.dispose();
-        if (greenLoseTexture != null) greenLoseTexture.dispose();
-        if (homeButtonTexture != null) homeButtonTexture.dispose();
-        if (homeButtonHoverTexture != null) homeButtonHoverTexture.dispose();
-        if (homeButtonPressedTexture != null) homeButtonPressedTexture.dispose();
-        if (restartButtonTexture != null) restartButtonTexture.dispose();
-        if (restartButtonHoverTexture != null) restartButtonHoverTexture.dispose();
-        if (restartButtonPressedTexture != null) restartButtonPressedTexture.dispose();
+        textures.releaseAll();
     }
 }
 
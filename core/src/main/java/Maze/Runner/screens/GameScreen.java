@@ -1,57 +1,101 @@
 package Maze.Runner.screens;
 
 import Maze.Runner.MazeGame;
+import Maze.Runner.config.Config;
+import Maze.Runner.gameobjects.GameObject;
+import Maze.Runner.gameobjects.KamikazeEnemy;
+import Maze.Runner.gameobjects.Player;
+import Maze.Runner.utils.Constants;
+import Maze.Runner.world.CameraCuller;
+import Maze.Runner.world.FlowField;
+import Maze.Runner.world.LoadListener;
+import Maze.Runner.world.MapHotReloader;
+import Maze.Runner.world.Maze;
+import Maze.Runner.world.MazeLoader;
+import Maze.Runner.world.ObjectCategory;
+import Maze.Runner.world.SpatialHash;
+import Maze.Runner.world.StaticLayerRenderer;
+import Maze.Runner.world.TextureRegistry;
+import Maze.Runner.world.TileKind;
+import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+import java.io.IOException;
 
 public class GameScreen implements Screen {
     private final MazeGame game;
+    private final TextureRegistry.Owner textures;
     private final SpriteBatch batch;
 
+    // ---------------- WORLD ----------------
+    private final OrthographicCamera camera = new OrthographicCamera();
+    private final Matrix4 uiMatrix = new Matrix4();
+    private MazeLoader.MazeLoadResult level;
+    private StaticLayerRenderer staticLayer;     // walls, entry, exit, floor (SpriteCache)
+    private final CameraCuller culler = new CameraCuller();
+    private final SpatialHash entityIndex = new SpatialHash(4);   // dynamic entities, for visibility queries
+    private final Array<GameObject> visibleEntities = new Array<>();
+    private FlowField chaseField;                // shared path towards the player for all chasers, owned by the level
+    private Player player;                       // chase target; chasers head for the entry until set
+    private int chaseTileX = -1;                 // tile the chase field currently points at
+    private int chaseTileY = -1;
+    private MapHotReloader hotReloader;          // dev mode only
+    private String loadingPath;                  // level being loaded in the background, if any
+    private float loadProgress = 1f;
+
+    // Max time per frame spent rebuilding the chase field
+    private static final long CHASE_FIELD_BUDGET_NANOS = 1_000_000L;
+
     // ---------------- GAME UI ASSETS ----------------
-    private Texture keyIconTexture;              // game_ui/key/key.png
-    private Texture keyBarEmptyTexture;         // game_ui/key/key_bar_empty.png
-    private Texture keyBarFullTexture;          // game_ui/key/key_bar_full.png
-    private Texture keyBar1Texture;             // game_ui/key/key_bar_1.png
-    private Texture keyBar2Texture;             // game_ui/key/key_bar_2.png
-    private Texture fullKeyTexture;             // game_ui/key/full_key.png
-    private Texture emptyKeyTexture;            // game_ui/key/empty_key.png
+    private TextureRegion keyIconTexture;              // game_ui/key/key.png
+    private TextureRegion keyBarEmptyTexture;         // game_ui/key/key_bar_empty.png
+    private TextureRegion keyBarFullTexture;          // game_ui/key/key_bar_full.png
+    private TextureRegion keyBar1Texture;             // game_ui/key/key_bar_1.png
+    private TextureRegion keyBar2Texture;             // game_ui/key/key_bar_2.png
+    private TextureRegion fullKeyTexture;             // game_ui/key/full_key.png
+    private TextureRegion emptyKeyTexture;            // game_ui/key/empty_key.png
 
     // Health bar heads per color
-    private Texture redHeadTexture;             // game_ui/healthbar/red_health/line_red_head.png
-    private Texture greenHeadTexture;           // game_ui/healthbar/green_health/line_green_head.png
-    private Texture blueHeadTexture;            // game_ui/healthbar/blue_health/line_blue_head.png
+    private TextureRegion redHeadTexture;             // game_ui/healthbar/red_health/line_red_head.png
+    private TextureRegion greenHeadTexture;           // game_ui/healthbar/green_health/line_green_head.png
+    private TextureRegion blueHeadTexture;            // game_ui/healthbar/blue_health/line_blue_head.png
 
     // Generic health bar fill/empty
-    private Texture healthEmptyTexture;         // game_ui/healthbar/example_healthbar/health_empty.png
-    private Texture healthFullTexture;          // game_ui/healthbar/example_healthbar/health_full.png
+    private TextureRegion healthEmptyTexture;         // game_ui/healthbar/example_healthbar/health_empty.png
+    private TextureRegion healthFullTexture;          // game_ui/healthbar/example_healthbar/health_full.png
 
     // Direction / pause button UI
-    private Texture directionBackgroundTexture; // game_ui/show_direction/direction_background.png
-    private Texture directionExitTexture;       // game_ui/show_direction/direction_exit.png
+    private TextureRegion directionBackgroundTexture; // game_ui/show_direction/direction_background.png
+    private TextureRegion directionExitTexture;       // game_ui/show_direction/direction_exit.png
 
     // ---------------- PAUSE MENU ASSETS ----------------
-    private Texture pauseOverlayTexture;        // optional; else draw a semi-transparent rect
-    private Texture pauseStartButtonTexture;    // main/buttons/start_button.png
-    private Texture pauseStartHoverTexture;
-    private Texture pauseStartPressedTexture;
+    private TextureRegion pauseOverlayTexture;        // optional; else draw a semi-transparent rect
+    private TextureRegion pauseStartButtonTexture;    // main/buttons/start_button.png
+    private TextureRegion pauseStartHoverTexture;
+    private TextureRegion pauseStartPressedTexture;
 
-    private Texture pauseLoadButtonTexture;     // main/buttons/load_button.png
-    private Texture pauseLoadHoverTexture;
-    private Texture pauseLoadPressedTexture;
+    private TextureRegion pauseLoadButtonTexture;     // main/buttons/load_button.png
+    private TextureRegion pauseLoadHoverTexture;
+    private TextureRegion pauseLoadPressedTexture;
 
-    private Texture pauseSettingsButtonTexture; // main/buttons/settings_button.png
-    private Texture pauseSettingsHoverTexture;
-    private Texture pauseSettingsPressedTexture;
+    private TextureRegion pauseSettingsButtonTexture; // main/buttons/settings_button.png
+    private TextureRegion pauseSettingsHoverTexture;
+    private TextureRegion pauseSettingsPressedTexture;
 
-    private Texture pauseExitButtonTexture;     // main/buttons/exit_button.png
-    private Texture pauseExitHoverTexture;
-    private Texture pauseExitPressedTexture;
+    private TextureRegion pauseExitButtonTexture;     // main/buttons/exit_button.png
+    private TextureRegion pauseExitHoverTexture;
+    private TextureRegion pauseExitPressedTexture;
 
     // ---------------- UI STATE ----------------
     private Rectangle healthBarBounds;
@@ -91,45 +135,46 @@ public class GameScreen implements Screen {
 
     private void loadUiAssets() {
         // Key UI
-        keyIconTexture      = new Texture(Gdx.files.internal("game_ui/key/key.png"));
-        keyBarEmptyTexture  = new Texture(Gdx.files.internal("game_ui/key/key_bar_empty.png"));
-        keyBarFullTexture   = new Texture(Gdx.files.internal("game_ui/key/key_bar_full.png"));
-        keyBar1Texture      = new Texture(Gdx.files.internal("game_ui/key/key_bar_1.png"));
-        keyBar2Texture      = new Texture(Gdx.files.internal("game_ui/key/key_bar_2.png"));
-        fullKeyTexture      = new Texture(Gdx.files.internal("game_ui/key/full_key.png"));
-        emptyKeyTexture     = new Texture(Gdx.files.internal("game_ui/key/empty_key.png"));
+        keyIconTexture      = textures.acquire("game_ui/key/key.png");
+        keyBarEmptyTexture  = textures.acquire("game_ui/key/key_bar_empty.png");
+        keyBarFullTexture   = textures.acquire("game_ui/key/key_bar_full.png");
+        keyBar1Texture      = textures.acquire("game_ui/key/key_bar_1.png");
+        keyBar2Texture      = textures.acquire("game_ui/key/key_bar_2.png");
+        fullKeyTexture      = textures.acquire("game_ui/key/full_key.png");
+        emptyKeyTexture     = textures.acquire("game_ui/key/empty_key.png");
 
         // Health bar
-        healthEmptyTexture  = new Texture(Gdx.files.internal("game_ui/healthbar/example_healthbar/health_empty.png"));
-        healthFullTexture   = new Texture(Gdx.files.internal("game_ui/healthbar/example_healthbar/health_full.png"));
-        redHeadTexture      = new Texture(Gdx.files.internal("game_ui/healthbar/red_health/line_red_head.png"));
-        greenHeadTexture    = new Texture(Gdx.files.internal("game_ui/healthbar/green_health/line_green_head.png"));
-        blueHeadTexture     = new Texture(Gdx.files.internal("game_ui/healthbar/blue_health/line_blue_head.png"));
+        healthEmptyTexture  = textures.acquire("game_ui/healthbar/example_healthbar/health_empty.png");
+        healthFullTexture   = textures.acquire("game_ui/healthbar/example_healthbar/health_full.png");
+        redHeadTexture      = textures.acquire("game_ui/healthbar/red_health/line_red_head.png");
+        greenHeadTexture    = textures.acquire("game_ui/healthbar/green_health/line_green_head.png");
+        blueHeadTexture     = textures.acquire("game_ui/healthbar/blue_health/line_blue_head.png");
 
         // Direction / pause arrow
-        directionBackgroundTexture = new Texture(Gdx.files.internal("game_ui/show_direction/direction_background.png"));
-        directionExitTexture       = new Texture(Gdx.files.internal("game_ui/show_direction/direction_exit.png"));
+        directionBackgroundTexture = textures.acquire("game_ui/show_direction/direction_background.png");
+        directionExitTexture       = textures.acquire("game_ui/show_direction/direction_exit.png");
 
         // Pause menu buttons (same assets as main menu)
-        pauseStartButtonTexture    = new Texture(Gdx.files.internal("main_menu/start_button.png"));
-        pauseStartHoverTexture     = new Texture(Gdx.files.internal("main_menu/start_button_hover.png"));
-        pauseStartPressedTexture   = new Texture(Gdx.files.internal("main_menu/start_button_pressed.png"));
+        pauseStartButtonTexture    = textures.acquire("main_menu/start_button.png");
+        pauseStartHoverTexture     = textures.acquire("main_menu/start_button_hover.png");
+        pauseStartPressedTexture   = textures.acquire("main_menu/start_button_pressed.png");
 
-        pauseLoadButtonTexture     = new Texture(Gdx.files.internal("main_menu/load_button.png"));
-        pauseLoadHoverTexture      = new Texture(Gdx.files.internal("main_menu/load_button_hover.png"));
-        pauseLoadPressedTexture    = new Texture(Gdx.files.internal("main_menu/load_button_pressed.png"));
+        pauseLoadButtonTexture     = textures.acquire("main_menu/load_button.png");
+        pauseLoadHoverTexture      = textures.acquire("main_menu/load_button_hover.png");
+        pauseLoadPressedTexture    = textures.acquire("main_menu/load_button_pressed.png");
 
-        pauseSettingsButtonTexture = new Texture(Gdx.files.internal("main_menu/settings_button.png"));
-        pauseSettingsHoverTexture  = new Texture(Gdx.files.internal("main_menu/settings_button_hover.png"));
-        pauseSettingsPressedTexture= new Texture(Gdx.files.internal("main_menu/settings_button_pressed.png"));
+        pauseSettingsButtonTexture = textures.acquire("main_menu/settings_button.png");
+        pauseSettingsHoverTexture  = textures.acquire("main_menu/settings_button_hover.png");
+        pauseSettingsPressedTexture= textures.acquire("main_menu/settings_button_pressed.png");
 
-        pauseExitButtonTexture     = new Texture(Gdx.files.internal("main_menu/exit_button.png"));
-        pauseExitHoverTexture      = new Texture(Gdx.files.internal("main_menu/exit_button_hover.png"));
-        pauseExitPressedTexture    = new Texture(Gdx.files.internal("main_menu/exit_button_pressed.png"));
+        pauseExitButtonTexture     = textures.acquire("main_menu/exit_button.png");
+        pauseExitHoverTexture      = textures.acquire("main_menu/exit_button_hover.png");
+        pauseExitPressedTexture    = textures.acquire("main_menu/exit_button_pressed.png");
 
     }
     public GameScreen(MazeGame game, String characterColor) {
         this.game = game;
+        this.textures = game.getTextures().newOwner();
         this.batch = game.getBatch();
         this.characterColor = characterColor;
 
@@ -138,8 +183,132 @@ public class GameScreen implements Screen {
         loadUiAssets();
         initUiLayout();
         setupInput();
+
+        camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        uiMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+        loadLevel(0);
+    }
+
+    /**
+     * Show a loaded level. Nothing heavy happens here: static tiles are compiled as they come
+     * into view and the chase field was allocated by the loader.
+     */
+    public void setLevel(MazeLoader.MazeLoadResult level) {
+        if (staticLayer != null) staticLayer.dispose();
+        // the new level already holds its textures, so shared ones stay resident
+        if (this.level != null && this.level != level) this.level.dispose();
+        if (hotReloader != null) {
+            hotReloader.dispose();
+            hotReloader = null;
+        }
+        this.level = level;
+        this.staticLayer = new StaticLayerRenderer(level.maze, level.getFloorRegion(), level.getWallRegion());
+        this.chaseField = level.getChaseField();
+        chaseTileX = -1;
+        chaseTileY = -1;
+
+        indexEntities();
+
+        if (level.entry != null) {
+            camera.position.set(
+                (level.entry.getPosition().x + 0.5f) * Constants.TILE_SIZE,
+                (level.entry.getPosition().y + 0.5f) * Constants.TILE_SIZE, 0);
+        }
+    }
+
+
+    public void setPlayer(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Point the chase field at the player's tile when the player entered a new one.
+     */
+    private void updateChaseTarget() {
+        GameObject target = player != null ? player : level.entry;
+        if (target == null) return;
+        int tileX = MathUtils.floor(target.getPosition().x);
+        int tileY = MathUtils.floor(target.getPosition().y);
+        if (tileX == chaseTileX && tileY == chaseTileY) return;
+        chaseTileX = tileX;
+        chaseTileY = tileY;
+        chaseField.setTarget(tileX, tileY);
+    }
+
+    private void indexEntities() {
+        entityIndex.clear();
+        level.maze.forEachDynamic(obj -> {
+            entityIndex.insert(obj);
+            if (obj instanceof KamikazeEnemy) ((KamikazeEnemy) obj).setPathGuide(chaseField);
+        });
+    }
+
+    /**
+     * Dev mode: apply edits of the current level's map file while playing.
+     */
+    private void startHotReload(String mapPath) {
+        FileHandle file = Gdx.files.internal(mapPath);
+        if (mapPath.indexOf(MazeLoader.PACK_SEPARATOR) >= 0 || file.type() == Files.FileType.Classpath
+            || !file.file().exists()) {
+            return;
+        }
+        try {
+            hotReloader = new MapHotReloader(level, file.file().toPath(), game.getTextures());
+        } catch (IOException e) {
+            Gdx.app.error("MAZE", "Hot reload unavailable for " + mapPath, e);
+        }
     }
 
+    /**
+     * Load a level of {@link Config#LEVELS} in the background and prefetch the one after it.
+     */
+    public void loadLevel(int index) {
+        String next = index + 1 < Config.LEVELS.length ? Config.LEVELS[index + 1] : null;
+        loadLevel(Config.LEVELS[index], next);
+    }
+
+    /**
+     * Load a map in the background and show it when ready; the current level keeps running
+     * meanwhile. If given, the following map is prefetched once this one is in.
+     */
+    public void loadLevel(String mapPath, String nextMapPath) {
+        loadingPath = mapPath;
+        loadProgress = 0f;
+        game.getLevelLoader().load(mapPath, new LoadListener() {
+            @Override
+            public void onProgress(String path, float progress) {
+                loadProgress = progress;
+            }
+
+            @Override
+            public void onLoaded(String path, MazeLoader.MazeLoadResult result) {
+                loadingPath = null;
+                loadProgress = 1f;
+                setLevel(result);
+                if (result.entry != null) {
+                    setPlayer(new Player(result.entry.getPosition().x, result.entry.getPosition().y,
+                        characterHeadTexture()));
+                }
+                if (Config.HOT_RELOAD_MAPS) startHotReload(path);
+                if (nextMapPath != null) game.getLevelLoader().prefetch(nextMapPath);
+            }
+
+            @Override
+            public void onFailed(String path, RuntimeException error) {
+                loadingPath = null;
+                loadProgress = 1f;
+                Gdx.app.error("MAZE", "Could not load " + path, error);
+            }
+        });
+    }
+
+    /**
+     * Progress of the last {@link #loadLevel} in 0..1, for a loading indicator.
+     */
+    public float getLoadProgress() {
+        return loadProgress;
+    }
 
     private void initUiLayout() {
         float w = Gdx.graphics.getWidth();
@@ -226,6 +395,13 @@ public class GameScreen implements Screen {
                 return false;
             }
 
+            @Override
+            public boolean scrolled(float amountX, float amountY) {
+                if (isPaused) return false;
+                camera.zoom = CameraCuller.clampZoom(camera.zoom + amountY * 0.1f);
+                return true;
+            }
+
             @Override
             public boolean touchDown(int x, int y, int pointer, int button) {
                 float yy = Gdx.graphics.getHeight() - y;
@@ -309,25 +485,33 @@ public class GameScreen implements Screen {
 
     @Override
     public void render(float delta) {
-        if (!isPaused) {
-            // your existing game update logic:
-            // updatePlayer(delta);
-            // updateEnemies(delta);
-            // etc.
+        // new or removed enemies have to be re-indexed; everything else updates through maze listeners
+        if (hotReloader != null && hotReloader.update() > 0) indexEntities();
+
+        if (!isPaused && level != null) {
+            if (player != null) player.update(delta);
+            updateChaseTarget();
+            chaseField.update(CHASE_FIELD_BUDGET_NANOS);
+            // only dynamic and animated objects are updated
+            level.maze.update(delta);
         }
 
-        // your existing clear + maze drawing
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        batch.begin();
+        // 1) maze: cached static layer first, then the objects that change
+        if (level != null) {
+            renderWorld();
+        }
 
-        // 1) draw your maze, player, enemies, etc. here...
+        batch.setProjectionMatrix(uiMatrix);
+        batch.begin();
 
         // 2) draw UI overlay, always on top
         drawHealthBar();
         drawKeyUi();
         drawPauseArrow();
+        if (loadingPath != null) drawLoadingBar();
 
         if (isPaused) {
             drawPauseOverlay();
@@ -337,6 +521,48 @@ public class GameScreen implements Screen {
         batch.end();
     }
 
+    /**
+     * Draws only what the camera can see, so the cost follows screen size rather than map size.
+     */
+    private void renderWorld() {
+        Maze maze = level.maze;
+        camera.update();
+        culler.update(camera, maze.getWidth(), maze.getHeight());
+        if (culler.isEmpty()) return;
+
+        staticLayer.render(camera.combined,
+            culler.getMinX(), culler.getMinY(), culler.getMaxX(), culler.getMaxY());
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+
+        // traps, pickups and animated statics stay in their cell, so walk the visible tiles;
+        // walls, entry and exit are in the static layer and enemies come from the index below
+        for (int y = culler.getMinY(); y <= culler.getMaxY(); y++) {
+            for (int x = culler.getMinX(); x <= culler.getMaxX(); x++) {
+                byte kind = maze.getTileKind(x, y);
+                if (kind == TileKind.EMPTY || kind == TileKind.ENEMY || StaticLayerRenderer.isCompiled(kind)) continue;
+                GameObject obj = maze.get(x, y);
+                if (obj == null) continue;
+                // unclassified moving objects are in the index as well
+                if (kind == TileKind.OTHER && ObjectCategory.of(obj) == ObjectCategory.DYNAMIC) continue;
+                obj.render(batch);
+            }
+        }
+
+        // moving entities come from the spatial index
+        visibleEntities.clear();
+        entityIndex.query(culler.getMinX(), culler.getMinY(),
+            culler.getMaxX() - culler.getMinX() + 1, culler.getMaxY() - culler.getMinY() + 1,
+            visibleEntities);
+        for (int i = 0; i < visibleEntities.size; i++) {
+            visibleEntities.get(i).render(batch);
+        }
+        if (player != null) player.render(batch);
+
+        batch.end();
+    }
+
     private void drawHealthBar() {
         // bar background
         batch.draw(healthEmptyTexture,
@@ -353,15 +579,27 @@ public class GameScreen implements Screen {
         }
 
         // colored head according to characterColor
-        Texture headTex = redHeadTexture;
-        if ("GREEN".equals(characterColor)) headTex = greenHeadTexture;
-        if ("BLUE".equals(characterColor))  headTex = blueHeadTexture;
-
-        batch.draw(headTex,
+        batch.draw(characterHeadTexture(),
             healthHeadBounds.x, healthHeadBounds.y,
             healthHeadBounds.width, healthHeadBounds.height);
     }
 
+    private TextureRegion characterHeadTexture() {
+        if ("GREEN".equals(characterColor)) return greenHeadTexture;
+        if ("BLUE".equals(characterColor))  return blueHeadTexture;
+        return redHeadTexture;
+    }
+
+    private void drawLoadingBar() {
+        // thin bar across the bottom while the next level streams in
+        float h = Gdx.graphics.getHeight() * 0.02f;
+        float w = Gdx.graphics.getWidth() * 0.5f;
+        float x = (Gdx.graphics.getWidth() - w) / 2f;
+        float y = h * 2f;
+        batch.draw(healthEmptyTexture, x, y, w, h);
+        batch.draw(healthFullTexture, x, y, w * loadProgress, h);
+    }
+
     private void drawKeyUi() {
         // key icon
         batch.draw(keyIconTexture,
@@ -380,7 +618,7 @@ public class GameScreen implements Screen {
     }
 
     private void drawKeySlot(Rectangle bounds, boolean full) {
-        Texture tex = full ? fullKeyTexture : emptyKeyTexture;
+        TextureRegion tex = full ? fullKeyTexture : emptyKeyTexture;
         batch.draw(tex, bounds.x, bounds.y, bounds.width, bounds.height);
     }
 
@@ -428,16 +666,17 @@ public class GameScreen implements Screen {
     }
 
     private void drawPauseButton(Rectangle b, ButtonState state,
-                                 Texture normal, Texture hover, Texture pressed) {
-        Texture t = normal;
+                                 TextureRegion normal, TextureRegion hover, TextureRegion pressed) {
+        TextureRegion t = normal;
         if (state == ButtonState.HOVER && hover != null)   t = hover;
         if (state == ButtonState.PRESSED && pressed != null) t = pressed;
         batch.draw(t, b.x, b.y, b.width, b.height);
     }
 
     @Override
-    public void resize(int i, int i1) {
-
+    public void resize(int width, int height) {
+        camera.setToOrtho(false, width, height);
+        uiMatrix.setToOrtho2D(0, 0, width, height);
     }
 
     @Override
@@ -457,42 +696,11 @@ public class GameScreen implements Screen {
 
     @Override
     public void dispose() {
-        // health
-        if (healthEmptyTexture != null) healthEmptyTexture.dispose();
-        if (healthFullTexture != null) healthFullTexture.dispose();
-        if (redHeadTexture != null) redHeadTexture.dispose();
-        if (greenHeadTexture != null) greenHeadTexture.dispose();
-        if (blueHeadTexture != null) blueHeadTexture.dispose();
-
-// keys
-        if (keyIconTexture != null) keyIconTexture.dispose();
-        if (keyBarEmptyTexture != null) keyBarEmptyTexture.dispose();
-        if (keyBarFullTexture != null) keyBarFullTexture.dispose();
-        if (keyBar1Texture != null) keyBar1Texture.dispose();
-        if (keyBar2Texture != null) keyBar2Texture.dispose();
-        if (fullKeyTexture != null) fullKeyTexture.dispose();
-        if (emptyKeyTexture != null) emptyKeyTexture.dispose();
-
-// direction / pause
-        if (directionBackgroundTexture != null) directionBackgroundTexture.dispose();
-        if (directionExitTexture != null) directionExitTexture.dispose();
-
-// pause buttons
-        if (pauseStartButtonTexture != null) pauseStartButtonTexture.dispose();
-        if (pauseStartHoverTexture != null) pauseStartHoverTexture.dispose();
-        if (pauseStartPressedTexture != null) pauseStartPressedTexture.dispose();
-
-        if (pauseLoadButtonTexture != null) pauseLoadButtonTexture.dispose();
-        if (pauseLoadHoverTexture != null) pauseLoadHoverTexture.dispose();
-        if (pauseLoadPressedTexture != null) pauseLoadPressedTexture.dispose();
-
-        if (pauseSettingsButtonTexture != null) pauseSettingsButtonTexture.dispose();
-        if (pauseSettingsHoverTexture != null) pauseSettingsHoverTexture.dispose();
-        if (pauseSettingsPressedTexture != null) pauseSettingsPressedTexture.dispose();
-
-        if (pauseExitButtonTexture != null) pauseExitButtonTexture.dispose();
-        if (pauseExitHoverTexture != null) pauseExitHoverTexture.dispose();
-        if (pauseExitPressedTexture != null) pauseExitPressedTexture.dispose();
+        if (staticLayer != null) staticLayer.dispose();
+        if (level != null) level.dispose();
+        if (loadingPath != null) game.getLevelLoader().cancel(loadingPath);
+        if (hotReloader != null) hotReloader.dispose();
 
+        textures.releaseAll();
     }
 }
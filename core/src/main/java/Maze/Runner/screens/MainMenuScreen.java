@@ -4,10 +4,11 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import Maze.Runner.MazeGame;
+import Maze.Runner.world.TextureRegistry;
 
 /**
  * Main Menu Screen - First screen players see when launching the game
@@ -42,35 +43,36 @@ public class MainMenuScreen implements Screen {
     }
 
     private final MazeGame game;
+    private final TextureRegistry.Owner textures;
     private final SpriteBatch batch;
 
 
-    private Texture backgroundTexture;
+    private TextureRegion backgroundTexture;
 
 
-    private Texture startButtonTexture;
-    private Texture startButtonHoverTexture;
-    private Texture startButtonPressedTexture;
+    private TextureRegion startButtonTexture;
+    private TextureRegion startButtonHoverTexture;
+    private TextureRegion startButtonPressedTexture;
 
 
-    private Texture settingsButtonTexture;
-    private Texture settingsButtonHoverTexture;
-    private Texture settingsButtonPressedTexture;
+    private TextureRegion settingsButtonTexture;
+    private TextureRegion settingsButtonHoverTexture;
+    private TextureRegion settingsButtonPressedTexture;
 
 
-    private Texture loadButtonTexture;
-    private Texture loadButtonHoverTexture;
-    private Texture loadButtonPressedTexture;
+    private TextureRegion loadButtonTexture;
+    private TextureRegion loadButtonHoverTexture;
+    private TextureRegion loadButtonPressedTexture;
 
 
-    private Texture leaderboardButtonTexture;
-    private Texture leaderboardButtonHoverTexture;
-    private Texture leaderboardButtonPressedTexture;
+    private TextureRegion leaderboardButtonTexture;
+    private TextureRegion leaderboardButtonHoverTexture;
+    private TextureRegion leaderboardButtonPressedTexture;
 
 
-    private Texture exitButtonTexture;
-    private Texture exitButtonHoverTexture;
-    private Texture exitButtonPressedTexture;
+    private TextureRegion exitButtonTexture;
+    private TextureRegion exitButtonHoverTexture;
+    private TextureRegion exitButtonPressedTexture;
 
     // ==================== BUTTON CLICK AREAS ====================
     private Rectangle startButtonBounds;
@@ -101,6 +103,7 @@ public class MainMenuScreen implements Screen {
     // ==================== CONSTRUCTOR ====================
     public MainMenuScreen(MazeGame game) {
         this.game = game;
+        this.textures = game.getTextures().newOwner();
         this.batch = game.getBatch();
 
         loadAssets();
@@ -113,32 +116,32 @@ public class MainMenuScreen implements Screen {
     private void loadAssets() {
         try {
             // Background
-            backgroundTexture = new Texture(Gdx.files.internal("background.png"));
+            backgroundTexture = textures.acquire("background.png");
 
             // Start Button (3 states)
-            startButtonTexture = new Texture(Gdx.files.internal("main_menu/start_button.png"));
-            startButtonHoverTexture = new Texture(Gdx.files.internal("main_menu/start_button_hover.png"));
-            startButtonPressedTexture = new Texture(Gdx.files.internal("main_menu/start_button_pressed.png"));
+            startButtonTexture = textures.acquire("main_menu/start_button.png");
+            startButtonHoverTexture = textures.acquire("main_menu/start_button_hover.png");
+            startButtonPressedTexture = textures.acquire("main_menu/start_button_pressed.png");
 
             // Settings Button (3 states)
-            settingsButtonTexture = new Texture(Gdx.files.internal("main_menu/settings_button.png"));
-            settingsButtonHoverTexture = new Texture(Gdx.files.internal("main_menu/settings_button_hover.png"));
-            settingsButtonPressedTexture = new Texture(Gdx.files.internal("main_menu/settings_button_pressed.png"));
+            settingsButtonTexture = textures.acquire("main_menu/settings_button.png");
+            settingsButtonHoverTexture = textures.acquire("main_menu/settings_button_hover.png");
+            settingsButtonPressedTexture = textures.acquire("main_menu/settings_button_pressed.png");
 
             // Load Button (3 states)
-            loadButtonTexture = new Texture(Gdx.files.internal("main_menu/load_button.png"));
-            loadButtonHoverTexture = new Texture(Gdx.files.internal("main_menu/load_button_hover.png"));
-            loadButtonPressedTexture = new Texture(Gdx.files.internal("main_menu/load_button_pressed.png"));
+            loadButtonTexture = textures.acquire("main_menu/load_button.png");
+            loadButtonHoverTexture = textures.acquire("main_menu/load_button_hover.png");
+            loadButtonPressedTexture = textures.acquire("main_menu/load_button_pressed.png");
 
             // Leaderboard Button (3 states)
-            leaderboardButtonTexture = new Texture(Gdx.files.internal("main_menu/empty_buttons/button.png"));
-            leaderboardButtonHoverTexture = new Texture(Gdx.files.internal("main_menu/empty_buttons/button_hover.png"));
-            leaderboardButtonPressedTexture = new Texture(Gdx.files.internal("main_menu/empty_buttons/button_pressed.png"));
+            leaderboardButtonTexture = textures.acquire("main_menu/empty_buttons/button.png");
+            leaderboardButtonHoverTexture = textures.acquire("main_menu/empty_buttons/button_hover.png");
+            leaderboardButtonPressedTexture = textures.acquire("main_menu/empty_buttons/button_pressed.png");
 
             // Exit Button (3 states)
-            exitButtonTexture = new Texture(Gdx.files.internal("main_menu/exit_button.png"));
-            exitButtonHoverTexture = new Texture(Gdx.files.internal("main_menu/exit_button_hover.png"));
-            exitButtonPressedTexture = new Texture(Gdx.files.internal("main_menu/exit_button_pressed.png"));
+            exitButtonTexture = textures.acquire("main_menu/exit_button.png");
+            exitButtonHoverTexture = textures.acquire("main_menu/exit_button_hover.png");
+            exitButtonPressedTexture = textures.acquire("main_menu/exit_button_pressed.png");
 
             System.out.println("✅ All assets loaded successfully!");
 
@@ -264,8 +267,8 @@ public class MainMenuScreen implements Screen {
     }
 
     // ==================== DRAW BUTTON HELPER ====================
-    private void drawButton(Rectangle bounds, ButtonState state, Texture normalTex, Texture hoverTex, Texture pressedTex) {
-        Texture texture = normalTex;
+    private void drawButton(Rectangle bounds, ButtonState state, TextureRegion normalTex, TextureRegion hoverTex, TextureRegion pressedTex) {
+        TextureRegion texture = normalTex;
 
         if (state == ButtonState.HOVER && hoverTex != null) {
             texture = hoverTex;
@@ -312,21 +315,6 @@ public class MainMenuScreen implements Screen {
     public void dispose() {
         Gdx.input.setInputProcessor(null);
 
-        if (backgroundTexture != null) backgroundTexture.dispose();
-        if (startButtonTexture != null) startButtonTexture.dispose();
-        if (startButtonHoverTexture != null) startButtonHoverTexture.dispose();
-        if (startButtonPressedTexture != null) startButtonPressedTexture.dispose();
-        if (settingsButtonTexture != null) settingsButtonTexture.dispose();
-        if (settingsButtonHoverTexture != null) settingsButtonHoverTexture.dispose();
-        if (settingsButtonPressedTexture != null) settingsButtonPressedTexture.dispose();
-        if (loadButtonTexture != null) loadButtonTexture.dispose();
-        if (loadButtonHoverTexture != null) loadButtonHoverTexture.dispose();
-        if (loadButtonPressedTexture != null) loadButtonPressedTexture.dispose();
-        if (leaderboardButtonTexture != null) leaderboardButtonTexture.dispose();
-        if (leaderboardButtonHoverTexture != null) leaderboardButtonHoverTexture.dispose();
-        if (leaderboardButtonPressedTexture != null) leaderboardButtonPressedTexture.dispose();
-        if (exitButtonTexture != null) exitButtonTexture.dispose();
-        if (exitButtonHoverTexture != null) exitButtonHoverTexture.dispose();
-        if (exitButtonPressedTexture != null) exitButtonPressedTexture.dispose();
+        textures.releaseAll();
     }
 }
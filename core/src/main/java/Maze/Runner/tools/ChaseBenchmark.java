@@ -0,0 +1,178 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.utils.Direction;
+import Maze.Runner.world.FlowField;
+import Maze.Runner.world.Maze;
+import Maze.Runner.world.ProceduralMazeGenerator;
+import Maze.Runner.world.TileKind;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Chase flow field cost per frame, headless. A target wanders through the maze, entering a new
+ * tile every few frames, while chasers step along the shared {@link FlowField} like
+ * {@link Maze.Runner.gameobjects.KamikazeEnemy} does. Each frame calls setTarget when the target
+ * tile changed and update with the frame budget, then steps every chaser.
+ * Prints the median, 99th percentile and worst field update per frame, frames that left work
+ * pending, the chaser step cost per frame and the chasers' mean distance to the target along
+ * the field at the start and the end.
+ * The "open" maze has a quarter of its tiles walled at random; "perfect" is a generated maze.
+ * Usage: ChaseBenchmark [--size 512] [--chasers 1000] [--frames 3000] [--budget-us 1000] [--seed s]
+ * Run through Gradle with {@code ./gradlew core:benchmarkChase}.
+ */
+public class ChaseBenchmark {
+
+    // Frames between target moves (a tile every 0.2 s at 60 fps) and between chaser steps
+    private static final int FRAMES_PER_TARGET_MOVE = 12;
+    private static final int FRAMES_PER_CHASER_STEP = 18;
+
+    public static void main(String[] args) {
+        int size = 512;
+        int chasers = 1000;
+        int frames = 3000;
+        long budgetNanos = 1_000_000L;
+        long seed = 42;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--size":
+                    size = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--chasers":
+                    chasers = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--frames":
+                    frames = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--budget-us":
+                    budgetNanos = Long.parseLong(args[i + 1]) * 1000L;
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    System.err.println("Usage: ChaseBenchmark [--size 512] [--chasers 1000] [--frames 3000]"
+                        + " [--budget-us 1000] [--seed s]");
+                    System.exit(2);
+            }
+        }
+
+        System.out.println("maze,tiles,chasers,full_rebuild_ms,update_median_us,update_p99_us,update_max_us,"
+            + "pending_frames,step_us_per_frame,distance_start,distance_end");
+        for (String kind : new String[]{"open", "perfect"}) {
+            // First round warms up the JIT
+            run(kind, size, chasers, frames, budgetNanos, seed, false);
+            run(kind, size, chasers, frames, budgetNanos, seed, true);
+        }
+    }
+
+    private static void run(String kind, int size, int chaserCount, int frames, long budgetNanos, long seed,
+                            boolean print) {
+        RandomXS128 random = new RandomXS128(seed);
+        Maze maze = "open".equals(kind) ? openMaze(size, random) : perfectMaze(size, seed);
+        int width = maze.getWidth();
+        int height = maze.getHeight();
+        FlowField field = new FlowField(maze);
+
+        int[] start = randomOpenTile(maze, random);
+        int targetX = start[0];
+        int targetY = start[1];
+        field.setTarget(targetX, targetY);
+        long rebuildStart = System.nanoTime();
+        field.rebuildNow();
+        long fullRebuild = System.nanoTime() - rebuildStart;
+
+        int[] chaserX = new int[chaserCount];
+        int[] chaserY = new int[chaserCount];
+        for (int i = 0; i < chaserCount; i++) {
+            int[] tile = randomOpenTile(maze, random);
+            chaserX[i] = tile[0];
+            chaserY[i] = tile[1];
+        }
+        double distanceStart = meanDistance(field, chaserX, chaserY);
+
+        long[] updateNanos = new long[frames];
+        long stepNanos = 0;
+        int steps = 0;
+        int pending = 0;
+        Direction[] directions = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+        Direction heading = Direction.RIGHT;
+        for (int frame = 0; frame < frames; frame++) {
+            if (frame % FRAMES_PER_TARGET_MOVE == 0) {
+                // Wander: keep going straight when possible, otherwise pick another open direction
+                for (int attempt = 0; attempt < 8; attempt++) {
+                    int nx = targetX + (int) heading.getVector().x;
+                    int ny = targetY + (int) heading.getVector().y;
+                    if (maze.isInside(nx, ny) && !maze.isWall(nx, ny) && random.nextInt(8) != 0) {
+                        targetX = nx;
+                        targetY = ny;
+                        break;
+                    }
+                    heading = directions[random.nextInt(4)];
+                }
+            }
+
+            long before = System.nanoTime();
+            field.setTarget(targetX, targetY);
+            if (!field.update(budgetNanos)) pending++;
+            updateNanos[frame] = System.nanoTime() - before;
+
+            if (frame % FRAMES_PER_CHASER_STEP == 0) {
+                before = System.nanoTime();
+                for (int i = 0; i < chaserCount; i++) {
+                    Direction step = field.nextStep(chaserX[i], chaserY[i]);
+                    chaserX[i] += (int) step.getVector().x;
+                    chaserY[i] += (int) step.getVector().y;
+                }
+                stepNanos += System.nanoTime() - before;
+                steps++;
+            }
+        }
+
+        field.rebuildNow();
+        double distanceEnd = meanDistance(field, chaserX, chaserY);
+        field.dispose();
+        if (!print) return;
+        Arrays.sort(updateNanos);
+        System.out.printf(Locale.ROOT, "%s,%dx%d,%d,%.2f,%.1f,%.1f,%.1f,%d,%.1f,%.1f,%.1f%n", kind, width, height,
+            chaserCount, fullRebuild / 1e6, updateNanos[frames / 2] / 1e3, updateNanos[frames * 99 / 100] / 1e3,
+            updateNanos[frames - 1] / 1e3, pending, stepNanos / 1e3 / Math.max(1, steps), distanceStart, distanceEnd);
+    }
+
+    // Mean distance over the chasers that can reach the target
+    private static double meanDistance(FlowField field, int[] x, int[] y) {
+        long sum = 0;
+        int reachable = 0;
+        for (int i = 0; i < x.length; i++) {
+            int d = field.distanceAt(x[i], y[i]);
+            if (d == FlowField.UNREACHED) continue;
+            sum += d;
+            reachable++;
+        }
+        return reachable == 0 ? 0 : sum / (double) reachable;
+    }
+
+    private static Maze openMaze(int size, RandomXS128 random) {
+        Maze maze = new Maze(size, size, TileKind.EMPTY);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (random.nextInt(4) == 0) maze.setTileKind(x, y, TileKind.WALL);
+            }
+        }
+        return maze;
+    }
+
+    private static Maze perfectMaze(int size, long seed) {
+        int cells = Math.max(1, (size - 1) / 2);
+        return new ProceduralMazeGenerator(ProceduralMazeGenerator.BACKTRACKER, seed).generate(cells, cells);
+    }
+
+    private static int[] randomOpenTile(Maze maze, RandomXS128 random) {
+        while (true) {
+            int x = random.nextInt(maze.getWidth());
+            int y = random.nextInt(maze.getHeight());
+            if (!maze.isWall(x, y)) return new int[]{x, y};
+        }
+    }
+}
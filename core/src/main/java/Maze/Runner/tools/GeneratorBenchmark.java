@@ -0,0 +1,287 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.world.ContentPlacer;
+import Maze.Runner.world.DifficultyTarget;
+import Maze.Runner.world.EllerMazeStream;
+import Maze.Runner.world.MapData;
+import Maze.Runner.world.Maze;
+import Maze.Runner.world.ProceduralMazeGenerator;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Generation throughput and memory of each maze algorithm, headless.
+ * For every algorithm and maze size (in tiles) it runs warm-up rounds, then times generation
+ * into a {@link Maze} and prints the median time, tiles per second, bytes allocated per run
+ * (scratch arrays plus maze storage) and the maze's resident size.
+ * With {@code --stream-widths} it instead measures the endless row stream: cell rows per second
+ * for each width (in cells). With {@code --tiled-threads} it measures tiled generation of each
+ * size on pools of the given sizes, next to the single-threaded untiled baseline. With
+ * {@code --search-threads} it runs difficulty searches of {@code --search-budget} milliseconds
+ * and reports candidates generated and scored per second, bare and with content placed into
+ * every candidate (so hazard distance is scored too). With {@code --place-items} it times
+ * content placement of each item count, split from the distance maps it starts with.
+ * Usage: GeneratorBenchmark [--algorithms a,b] [--sizes 64,256] [--runs n] [--seed s]
+ *        [--stream-widths 100,100000] [--tiled-threads 1,2,4 [--tile-cells n]]
+ *        [--search-threads 1,2,4 [--search-budget ms]] [--place-items 100,1000]
+ * Run through Gradle with {@code ./gradlew core:benchmarkGenerators}.
+ */
+public class GeneratorBenchmark {
+
+    private static final String[] DEFAULT_ALGORITHMS = {"backtracker", "kruskal", "wilson", "growing-tree"};
+    private static final int[] DEFAULT_SIZES = {64, 256, 1024, 4096, 8192};
+
+    public static void main(String[] args) {
+        String[] algorithms = DEFAULT_ALGORITHMS;
+        int[] sizes = DEFAULT_SIZES;
+        int runs = 5;
+        long seed = 42;
+        int[] streamWidths = null;
+        int[] tiledThreads = null;
+        int tileCells = 256;
+        int[] searchThreads = null;
+        long searchBudget = 1000;
+        int[] placeItems = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--algorithms":
+                    algorithms = args[i + 1].split(",");
+                    break;
+                case "--sizes":
+                    sizes = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                case "--stream-widths":
+                    streamWidths = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--tiled-threads":
+                    tiledThreads = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--tile-cells":
+                    tileCells = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--search-threads":
+                    searchThreads = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--search-budget":
+                    searchBudget = Long.parseLong(args[i + 1]);
+                    break;
+                case "--place-items":
+                    placeItems = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                default:
+                    System.err.println("Usage: GeneratorBenchmark [--algorithms a,b] [--sizes 64,256] [--runs n] [--seed s]"
+                        + " [--stream-widths 100,100000] [--tiled-threads 1,2,4 [--tile-cells n]]"
+                        + " [--search-threads 1,2,4 [--search-budget ms]] [--place-items 100,1000]");
+                    System.exit(2);
+            }
+        }
+
+        if (streamWidths != null) {
+            System.out.println("width_cells,cell_rows,rows_per_s,mcells_per_s");
+            for (int width : streamWidths) {
+                runStream(new ProceduralMazeGenerator(ProceduralMazeGenerator.BACKTRACKER, seed), width);
+            }
+            return;
+        }
+
+        if (tiledThreads != null) {
+            System.out.println("algorithm,tiles,threads,median_ms,speedup_vs_untiled");
+            for (String name : algorithms) {
+                for (int size : sizes) {
+                    runTiled(new ProceduralMazeGenerator(ProceduralMazeGenerator.algorithm(name), seed),
+                        name, size, tileCells, tiledThreads, runs);
+                }
+            }
+            return;
+        }
+
+        if (placeItems != null) {
+            System.out.println("algorithm,tiles,items,placed,total_ms,place_ms");
+            for (String name : algorithms) {
+                for (int size : sizes) {
+                    runPlacement(new ProceduralMazeGenerator(ProceduralMazeGenerator.algorithm(name), seed),
+                        name, size, placeItems, runs, seed);
+                }
+            }
+            return;
+        }
+
+        if (searchThreads != null) {
+            System.out.println("algorithm,tiles,threads,content,candidates,candidates_per_s,best_score");
+            for (String name : algorithms) {
+                for (int size : sizes) {
+                    runSearch(new ProceduralMazeGenerator(ProceduralMazeGenerator.algorithm(name), seed),
+                        name, size, searchThreads, searchBudget);
+                }
+            }
+            return;
+        }
+
+        System.out.println("algorithm,tiles,median_ms,mtiles_per_s,alloc_mb,resident_mb");
+        for (String name : algorithms) {
+            ProceduralMazeGenerator generator = new ProceduralMazeGenerator(ProceduralMazeGenerator.algorithm(name), seed);
+            for (int size : sizes) {
+                run(generator, name, size, runs);
+            }
+        }
+    }
+
+    private static void run(ProceduralMazeGenerator generator, String name, int size, int runs) {
+        int cells = size / 2;
+        // Small sizes finish in microseconds; give the JIT enough rounds to settle
+        int warmup = Math.max(1, (int) Math.min(200, 4_000_000L / ((long) size * size)));
+        for (int i = 0; i < warmup; i++) {
+            generator.generate(cells, cells);
+        }
+
+        long[] nanos = new long[runs];
+        long allocated = 0;
+        long resident = 0;
+        for (int i = 0; i < runs; i++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            Maze maze = generator.generate(cells, cells);
+            nanos[i] = System.nanoTime() - start;
+            allocated += allocatedBytes() - allocatedBefore;
+            resident = maze.memoryReport().totalBytes();
+        }
+        Arrays.sort(nanos);
+        long median = nanos[runs / 2];
+        long tiles = (long) ProceduralMazeGenerator.tiles(cells) * ProceduralMazeGenerator.tiles(cells);
+        System.out.printf(Locale.ROOT, "%s,%d,%.2f,%.1f,%.1f,%.1f%n", name, ProceduralMazeGenerator.tiles(cells),
+            median / 1e6, tiles / (median / 1e9) / 1e6, allocated / (double) runs / (1 << 20), resident / (double) (1 << 20));
+    }
+
+    private static void runTiled(ProceduralMazeGenerator generator, String name, int size, int tileCells,
+                                 int[] threadCounts, int runs) {
+        int cells = size / 2;
+        int tiles = ProceduralMazeGenerator.tiles(cells);
+        long untiled = median(runs, () -> generator.generateMap(cells, cells));
+        System.out.printf(Locale.ROOT, "%s,%d,untiled,%.1f,1.00%n", name, tiles, untiled / 1e6);
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                long tiled = median(runs, () -> generator.generateMapTiled(cells, cells, tileCells, true, pool));
+                System.out.printf(Locale.ROOT, "%s,%d,%d,%.1f,%.2f%n", name, tiles, threads, tiled / 1e6,
+                    untiled / (double) tiled);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static void runSearch(ProceduralMazeGenerator generator, String name, int size, int[] threadCounts,
+                                  long budgetMillis) {
+        int cells = size / 2;
+        int tiles = ProceduralMazeGenerator.tiles(cells);
+        // A winding maze with few dead ends and hazards a few steps off the path; the values
+        // only need to make candidates differ
+        DifficultyTarget target = new DifficultyTarget();
+        target.solutionLength = tiles * 8;
+        target.deadEndRatio = 0.05f;
+        target.branchingFactor = 0.1f;
+        target.hazardDistance = 4;
+        ContentPlacer.Rules content = new ContentPlacer.Rules();
+        content.traps = content.enemies = Math.max(1, cells / 4);
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                for (ContentPlacer.Rules rules : new ContentPlacer.Rules[]{null, content}) {
+                    // Warm-up search, then the measured one
+                    generator.generateForDifficulty(cells, cells, target, rules, budgetMillis / 4, pool);
+                    ProceduralMazeGenerator.SearchResult result =
+                        generator.generateForDifficulty(cells, cells, target, rules, budgetMillis, pool);
+                    System.out.printf(Locale.ROOT, "%s,%d,%d,%s,%d,%.1f,%.4f%n", name, tiles, threads,
+                        rules == null ? "none" : "placed", result.candidates,
+                        result.candidates / (result.elapsedNanos / 1e9), result.score);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static void runPlacement(ProceduralMazeGenerator generator, String name, int size, int[] itemCounts,
+                                     int runs, long seed) {
+        int cells = size / 2;
+        MapData empty = generator.generateMap(cells, cells);
+        ContentPlacer placer = new ContentPlacer();
+        for (int items : itemCounts) {
+            // One key, the rest split evenly over the other kinds
+            ContentPlacer.Rules rules = new ContentPlacer.Rules();
+            rules.traps = rules.enemies = rules.lasers = (items - 1) / 4;
+            rules.hearts = items - 1 - 3 * rules.traps;
+            long[] total = new long[runs];
+            long[] placing = new long[runs];
+            int placed = 0;
+            for (int i = -1; i < runs; i++) {
+                MapData map = new MapData(empty.width, empty.height);
+                System.arraycopy(empty.codes, 0, map.codes, 0, map.codes.length);
+                map.set(empty.entryX, empty.entryY, MapData.ENTRY);
+                map.set(empty.exitX, empty.exitY, MapData.EXIT);
+                long start = System.nanoTime();
+                ContentPlacer.Result result = placer.place(map, rules, new RandomXS128(seed + i));
+                if (i < 0) continue;   // warm-up
+                total[i] = System.nanoTime() - start;
+                placing[i] = result.placeNanos;
+                placed = result.total();
+            }
+            Arrays.sort(total);
+            Arrays.sort(placing);
+            System.out.printf(Locale.ROOT, "%s,%d,%d,%d,%.2f,%.3f%n", name, empty.width, items, placed,
+                total[runs / 2] / 1e6, placing[runs / 2] / 1e6);
+        }
+    }
+
+    // One warm-up round, then the median of the timed rounds in nanoseconds
+    private static long median(int runs, Runnable task) {
+        task.run();
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[runs / 2];
+    }
+
+    private static void runStream(ProceduralMazeGenerator generator, int width) {
+        EllerMazeStream stream = generator.stream(width);
+        long[] row = new long[stream.getWordsPerRow()];
+        // About 100M cells per measurement, at least 1000 rows
+        long rows = Math.max(1000, 100_000_000L / width);
+        for (long i = 0; i < rows / 4; i++) {
+            stream.nextRow(row);
+            stream.nextRow(row);
+        }
+
+        long start = System.nanoTime();
+        for (long i = 0; i < rows; i++) {
+            stream.nextRow(row);
+            stream.nextRow(row);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "%d,%d,%.0f,%.1f%n", width, rows, rows / seconds, rows * (double) width / seconds / 1e6);
+    }
+
+    // Bytes allocated by the calling thread so far, or 0 if the JVM does not report it
+    static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
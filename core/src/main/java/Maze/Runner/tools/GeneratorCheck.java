@@ -0,0 +1,154 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.world.EllerMazeStream;
+import Maze.Runner.world.MapData;
+import Maze.Runner.world.ProceduralMazeGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that the generators produce perfect mazes: closed borders, every cell open, every
+ * pillar a wall, exactly cells - 1 passages and all cells connected. Covers each algorithm's
+ * {@code generateMap} and the endless row stream closed with {@code finish()} after every row
+ * count up to {@code --finish-rows}, so both cell and passage rows are hit.
+ * Prints one line per failure; exits with 1 if any check fails.
+ * Usage: GeneratorCheck [--seeds n] [--finish-rows n]
+ * Run through Gradle with {@code ./gradlew core:checkGenerators}.
+ */
+public class GeneratorCheck {
+
+    private static final String[] ALGORITHMS = {"backtracker", "kruskal", "wilson", "growing-tree"};
+    private static final int[] WIDTHS = {1, 2, 3, 5, 8, 31, 32, 33, 64, 65};
+
+    public static void main(String[] args) {
+        int seeds = 10;
+        int finishRows = 24;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--seeds":
+                    seeds = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--finish-rows":
+                    finishRows = Integer.parseInt(args[i + 1]);
+                    break;
+                default:
+                    System.err.println("Usage: GeneratorCheck [--seeds n] [--finish-rows n]");
+                    System.exit(2);
+            }
+        }
+
+        int checks = 0;
+        int failures = 0;
+        for (String name : ALGORITHMS) {
+            for (long seed = 0; seed < seeds; seed++) {
+                for (int width : WIDTHS) {
+                    int height = WIDTHS[(int) ((seed + width) % WIDTHS.length)];
+                    MapData map = new ProceduralMazeGenerator(ProceduralMazeGenerator.algorithm(name), seed)
+                        .generateMap(width, height);
+                    boolean[] walls = new boolean[map.codes.length];
+                    for (int i = 0; i < walls.length; i++) {
+                        walls[i] = map.codes[i] == MapData.WALL;
+                    }
+                    String error = perfectMazeError(walls, map.width, map.height);
+                    checks++;
+                    if (error != null) {
+                        failures++;
+                        System.out.println(name + " seed " + seed + " " + width + "x" + height + ": " + error);
+                    }
+                }
+            }
+        }
+
+        for (long seed = 0; seed < seeds; seed++) {
+            for (int width : WIDTHS) {
+                for (int rows = 0; rows <= finishRows; rows++) {
+                    String error = checkStream(width, seed, rows);
+                    checks++;
+                    if (error != null) {
+                        failures++;
+                        System.out.println("stream seed " + seed + " width " + width + " finish after " + rows
+                            + " rows: " + error);
+                    }
+                }
+            }
+        }
+
+        System.out.println(checks + " mazes checked, " + failures + " failed");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static String checkStream(int cellsWide, long seed, int finishAfter) {
+        EllerMazeStream stream = new ProceduralMazeGenerator(ProceduralMazeGenerator.BACKTRACKER, seed).stream(cellsWide);
+        int width = stream.getTileWidth();
+        List<long[]> rows = new ArrayList<>();
+        long[] row = new long[stream.getWordsPerRow()];
+        for (int i = 0; i < finishAfter && stream.nextRow(row); i++) {
+            rows.add(row.clone());
+        }
+        stream.finish();
+        // A finished stream ends after at most a pending passage row, a joining row and the border
+        while (stream.nextRow(row)) {
+            rows.add(row.clone());
+            if (rows.size() > finishAfter + 3) return "did not stop after finish()";
+        }
+
+        boolean[] walls = new boolean[width * rows.size()];
+        for (int y = 0; y < rows.size(); y++) {
+            long[] words = rows.get(y);
+            for (int x = 0; x < width; x++) {
+                walls[y * width + x] = (words[x >>> 6] & (1L << x)) != 0;
+            }
+        }
+        return perfectMazeError(walls, width, rows.size());
+    }
+
+    /**
+     * Null if the tile grid is a perfect maze in the 2w + 1 layout, otherwise what is wrong.
+     */
+    static String perfectMazeError(boolean[] walls, int width, int height) {
+        if (width % 2 == 0 || height % 2 == 0 || width < 3 || height < 3) {
+            return "bad tile size " + width + "x" + height;
+        }
+        int passages = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                boolean wall = walls[y * width + x];
+                boolean border = x == 0 || y == 0 || x == width - 1 || y == height - 1;
+                boolean cell = x % 2 == 1 && y % 2 == 1;
+                boolean pillar = x % 2 == 0 && y % 2 == 0;
+                if (border && !wall) return "hole in border at " + x + "," + y;
+                if (cell && wall) return "closed cell at " + x + "," + y;
+                if (pillar && !wall) return "open pillar at " + x + "," + y;
+                if (!border && !cell && !pillar && !wall) passages++;
+            }
+        }
+        int cells = (width / 2) * (height / 2);
+        if (passages != cells - 1) return passages + " passages for " + cells + " cells";
+
+        // Flood fill from the first cell; a spanning set of cells - 1 passages is then a tree
+        boolean[] seen = new boolean[walls.length];
+        int[] queue = new int[walls.length];
+        int start = width + 1;
+        seen[start] = true;
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+        int reached = 0;
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile % width;
+            int y = tile / width;
+            if (x % 2 == 1 && y % 2 == 1) reached++;
+            int[] neighbours = {tile + 1, tile - 1, tile + width, tile - width};
+            for (int next : neighbours) {
+                if (!walls[next] && !seen[next]) {
+                    seen[next] = true;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        if (reached != cells) return (cells - reached) + " of " + cells + " cells unreachable";
+        return null;
+    }
+}
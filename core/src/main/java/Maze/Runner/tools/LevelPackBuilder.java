@@ -0,0 +1,126 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.utils.Constants;
+import Maze.Runner.world.BinaryMapFormat;
+import Maze.Runner.world.LevelPack;
+import Maze.Runner.world.MapData;
+import Maze.Runner.world.PropertiesMapFormat;
+import Maze.Runner.world.WallBitmap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bundles map files into one level pack. Level ids are the file names without extension;
+ * par time is derived from the shortest entry-to-exit path at walking speed.
+ * Usage: LevelPackBuilder &lt;output.mzp&gt; &lt;map file or folder&gt;...
+ * Run through Gradle with {@code ./gradlew core:packMaps}.
+ */
+public class LevelPackBuilder {
+
+    // Par time allowance over walking the shortest path without stopping
+    private static final float PAR_SLACK = 1.5f;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: LevelPackBuilder <output.mzp> <map file or folder>...");
+            System.exit(1);
+        }
+        Path output = Paths.get(args[0]);
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) inputs.add(Paths.get(args[i]));
+        List<Path> maps = MapValidatorCli.collectMaps(inputs);
+
+        long start = System.nanoTime();
+        LevelPack.Writer writer = new LevelPack.Writer();
+        Set<String> ids = new HashSet<>();
+        int packed = 0;
+        for (Path path : maps) {
+            String name = path.getFileName().toString();
+            String id = name.substring(0, name.lastIndexOf('.'));
+            // level1.mzb and level1.properties are the same level
+            if (!ids.add(id)) {
+                System.out.println("Skipping " + path + ": level " + id + " already packed");
+                continue;
+            }
+            MapData map = read(path);
+            writer.add(id, map, parSeconds(map));
+            packed++;
+        }
+        if (output.getParent() != null) Files.createDirectories(output.getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            writer.write(out);
+        }
+        System.out.printf("Packed %d level(s) into %s (%d bytes, %.1f ms)%n",
+            packed, output, Files.size(output), (System.nanoTime() - start) / 1e6);
+    }
+
+    private static MapData read(Path path) throws IOException {
+        if (path.getFileName().toString().endsWith(BinaryMapFormat.EXTENSION)) {
+            return BinaryMapFormat.readMapped(path);
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            return PropertiesMapFormat.read(in);
+        }
+    }
+
+    /**
+     * Seconds to walk the shortest entry-to-exit path with some slack, or 0 if there is none.
+     */
+    public static int parSeconds(MapData map) {
+        int steps = shortestPath(map);
+        if (steps < 0) return 0;
+        return (int) Math.ceil(steps / Constants.MOVEMENT_SPEED * PAR_SLACK);
+    }
+
+    /**
+     * BFS steps from entry to exit, or -1 if the exit cannot be reached.
+     */
+    static int shortestPath(MapData map) {
+        if (!map.hasEntry() || !map.hasExit()) return -1;
+        WallBitmap walls = map.toWallBitmap();
+        int width = map.width;
+        int height = map.height;
+        int[] distance = new int[width * height];
+        Arrays.fill(distance, -1);
+        int[] queue = new int[width * height];
+        int head = 0;
+        int tail = 0;
+        int start = map.entryY * width + map.entryX;
+        int target = map.exitY * width + map.exitX;
+        distance[start] = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int i = queue[head++];
+            if (i == target) return distance[i];
+            int x = i % width;
+            int y = i / width;
+            if (x > 0 && distance[i - 1] < 0 && !walls.get(x - 1, y)) {
+                distance[i - 1] = distance[i] + 1;
+                queue[tail++] = i - 1;
+            }
+            if (x + 1 < width && distance[i + 1] < 0 && !walls.get(x + 1, y)) {
+                distance[i + 1] = distance[i] + 1;
+                queue[tail++] = i + 1;
+            }
+            if (y > 0 && distance[i - width] < 0 && !walls.get(x, y - 1)) {
+                distance[i - width] = distance[i] + 1;
+                queue[tail++] = i - width;
+            }
+            if (y + 1 < height && distance[i + width] < 0 && !walls.get(x, y + 1)) {
+                distance[i + width] = distance[i] + 1;
+                queue[tail++] = i + width;
+            }
+        }
+        return -1;
+    }
+}
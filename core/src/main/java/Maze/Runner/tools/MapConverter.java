@@ -0,0 +1,65 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.world.BinaryMapFormat;
+import Maze.Runner.world.MapData;
+import Maze.Runner.world.PropertiesMapFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Converts .properties maps into the binary .mzb format, next to the source file.
+ * Usage: MapConverter &lt;map file or folder&gt;...
+ * Run through Gradle with {@code ./gradlew core:convertMaps}.
+ */
+public class MapConverter {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: MapConverter <map file or folder>...");
+            System.exit(1);
+        }
+        int converted = 0;
+        for (String arg : args) {
+            Path path = Paths.get(arg);
+            if (Files.isDirectory(path)) {
+                try (DirectoryStream<Path> maps = Files.newDirectoryStream(path, "*" + PropertiesMapFormat.EXTENSION)) {
+                    for (Path map : maps) {
+                        convert(map);
+                        converted++;
+                    }
+                }
+            } else {
+                convert(path);
+                converted++;
+            }
+        }
+        System.out.println("Converted " + converted + " map(s)");
+    }
+
+    public static Path convert(Path source) throws IOException {
+        String name = source.getFileName().toString();
+        String baseName = name.endsWith(PropertiesMapFormat.EXTENSION)
+            ? name.substring(0, name.length() - PropertiesMapFormat.EXTENSION.length())
+            : name;
+        Path target = source.resolveSibling(baseName + BinaryMapFormat.EXTENSION);
+
+        long start = System.nanoTime();
+        MapData map;
+        try (InputStream in = Files.newInputStream(source)) {
+            map = PropertiesMapFormat.read(in);
+        }
+        try (OutputStream out = Files.newOutputStream(target)) {
+            BinaryMapFormat.write(map, out);
+        }
+        System.out.printf("%s -> %s (%dx%d, %d -> %d bytes, %.1f ms)%n",
+            source, target.getFileName(), map.width, map.height,
+            Files.size(source), Files.size(target), (System.nanoTime() - start) / 1e6);
+        return target;
+    }
+}
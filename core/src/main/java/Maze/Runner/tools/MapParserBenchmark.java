@@ -0,0 +1,132 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.world.MapData;
+import Maze.Runner.world.PropertiesMapFormat;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * .properties map parsing, headless: the streaming {@link PropertiesMapFormat} reader against
+ * the java.util.Properties path it replaced (load, then split and parseInt over the key set twice).
+ * Maps are square, with the given fraction of tiles listed as random codes, and are parsed from
+ * memory so disk speed does not count. Both parsers must produce the same codes.
+ * Prints the best of {@code --rounds} per parser with the bytes it allocated.
+ * Usage: MapParserBenchmark [--sizes 100,316,1000] [--fill 0.8] [--rounds 5] [--seed s]
+ * Run through Gradle with {@code ./gradlew core:benchmarkMapParser}.
+ */
+public class MapParserBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = {100, 316, 1000};
+        float fill = 0.8f;
+        int rounds = 5;
+        long seed = 42;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--sizes":
+                    sizes = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--fill":
+                    fill = Float.parseFloat(args[i + 1]);
+                    break;
+                case "--rounds":
+                    rounds = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    System.err.println("Usage: MapParserBenchmark [--sizes 100,316,1000] [--fill 0.8] [--rounds 5]"
+                        + " [--seed s]");
+                    System.exit(2);
+            }
+        }
+
+        System.out.println("size,cells,entries,file_kb,properties_ms,streaming_ms,properties_mb_alloc,"
+            + "streaming_mb_alloc,speedup");
+        // First round warms up the JIT
+        run(sizes[0], fill, rounds, seed, false);
+        for (int size : sizes) {
+            run(size, fill, rounds, seed, true);
+        }
+    }
+
+    private static void run(int size, float fill, int rounds, long seed, boolean print) throws IOException {
+        RandomXS128 random = new RandomXS128(seed);
+        StringBuilder text = new StringBuilder("# generated by MapParserBenchmark\n");
+        int entries = 0;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                // The far corner is always listed so both parsers see the full size
+                boolean corner = x == size - 1 && y == size - 1;
+                if (!corner && random.nextFloat() >= fill) continue;
+                text.append(x).append(',').append(y).append('=').append(random.nextInt(MapData.LASER + 1)).append('\n');
+                entries++;
+            }
+        }
+        byte[] source = text.toString().getBytes(StandardCharsets.ISO_8859_1);
+
+        long propertiesBest = Long.MAX_VALUE;
+        long streamingBest = Long.MAX_VALUE;
+        long propertiesAlloc = 0;
+        long streamingAlloc = 0;
+        for (int round = 0; round < rounds; round++) {
+            long allocated = GeneratorBenchmark.allocatedBytes();
+            long start = System.nanoTime();
+            MapData old = readWithProperties(new ByteArrayInputStream(source));
+            propertiesBest = Math.min(propertiesBest, System.nanoTime() - start);
+            propertiesAlloc = GeneratorBenchmark.allocatedBytes() - allocated;
+
+            allocated = GeneratorBenchmark.allocatedBytes();
+            start = System.nanoTime();
+            MapData streamed = PropertiesMapFormat.read(new ByteArrayInputStream(source));
+            streamingBest = Math.min(streamingBest, System.nanoTime() - start);
+            streamingAlloc = GeneratorBenchmark.allocatedBytes() - allocated;
+
+            if (old.width != streamed.width || old.height != streamed.height
+                || !Arrays.equals(old.codes, streamed.codes)) {
+                throw new IllegalStateException("Parsers disagree on the " + size + "x" + size + " map");
+            }
+        }
+        if (!print) return;
+        System.out.printf(Locale.ROOT, "%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f%n", size, size * size, entries,
+            source.length / 1024, propertiesBest / 1e6, streamingBest / 1e6, propertiesAlloc / 1e6,
+            streamingAlloc / 1e6, propertiesBest / (double) streamingBest);
+    }
+
+    /**
+     * The parser before the streaming rewrite, kept here as the baseline.
+     */
+    private static MapData readWithProperties(InputStream in) throws IOException {
+        Properties props = new Properties();
+        props.load(in);
+
+        int maxX = 0;
+        int maxY = 0;
+        for (Object keyObj : props.keySet()) {
+            String key = (String) keyObj;
+            String[] parts = key.split(",");
+            int x = Integer.parseInt(parts[0]);
+            int y = Integer.parseInt(parts[1]);
+            if (x > maxX) maxX = x;
+            if (y > maxY) maxY = y;
+        }
+
+        MapData map = new MapData(maxX + 1, maxY + 1);
+        for (Object keyObj : props.keySet()) {
+            String key = (String) keyObj;
+            String[] parts = key.split(",");
+            int x = Integer.parseInt(parts[0]);
+            int y = Integer.parseInt(parts[1]);
+            map.set(x, y, (byte) Integer.parseInt(props.getProperty(key)));
+        }
+        return map;
+    }
+}
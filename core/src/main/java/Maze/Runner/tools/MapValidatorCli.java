@@ -0,0 +1,219 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.world.BinaryMapFormat;
+import Maze.Runner.world.MapData;
+import Maze.Runner.world.PropertiesMapFormat;
+import Maze.Runner.world.ReachabilityValidator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Validates map files without Gdx or a GL context: parses them into {@link MapData} and checks
+ * entry/exit presence and reachability, in parallel on a ForkJoinPool.
+ * Writes one CSV row per map (path, status, size, timings, error); exits with 1 if any map fails.
+ * Usage: MapValidatorCli [--out report.csv] [--threads n] &lt;map file or folder&gt;...
+ * Run through Gradle with {@code ./gradlew core:validateMaps}.
+ */
+public class MapValidatorCli {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_INVALID = "INVALID";
+    public static final String STATUS_ERROR = "ERROR";
+
+    // Maps per task before a range is split further
+    private static final int SPLIT_THRESHOLD = 8;
+
+    public static class Report {
+        public final Path path;
+        public String status;
+        public int width;
+        public int height;
+        public long parseNanos;
+        public long validateNanos;
+        public String error = "";
+
+        Report(Path path) {
+            this.path = path;
+        }
+    }
+
+    // One validator per worker thread; its buffers are reused across maps
+    private static final ThreadLocal<ReachabilityValidator> VALIDATORS =
+        ThreadLocal.withInitial(ReachabilityValidator::new);
+
+    public static void main(String[] args) throws IOException {
+        Path out = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--out".equals(args[i]) && i + 1 < args.length) {
+                out = Paths.get(args[++i]);
+            } else if ("--threads".equals(args[i]) && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else {
+                inputs.add(Paths.get(args[i]));
+            }
+        }
+        if (inputs.isEmpty()) {
+            System.err.println("Usage: MapValidatorCli [--out report.csv] [--threads n] <map file or folder>...");
+            System.exit(2);
+        }
+
+        List<Path> maps = collectMaps(inputs);
+        long start = System.nanoTime();
+        Report[] reports = validateAll(maps, threads);
+        long elapsed = System.nanoTime() - start;
+
+        if (out == null) {
+            // System.out stays open for the summary, so the wrapper is only flushed
+            writeCsv(reports, new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        } else {
+            try (Writer writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+                writeCsv(reports, new PrintWriter(writer));
+            }
+        }
+
+        int failed = 0;
+        for (Report report : reports) {
+            if (!STATUS_OK.equals(report.status)) failed++;
+        }
+        System.err.printf("Validated %d map(s) on %d thread(s) in %.1f ms, %d failed%n",
+            reports.length, threads, elapsed / 1e6, failed);
+        if (failed > 0) System.exit(1);
+    }
+
+    /**
+     * Expand folders (recursively) into their .properties and .mzb maps, sorted by path.
+     */
+    public static List<Path> collectMaps(List<Path> inputs) throws IOException {
+        List<Path> maps = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> files = Files.walk(input)) {
+                    maps.addAll(files.filter(Files::isRegularFile)
+                        .filter(MapValidatorCli::isMapFile)
+                        .collect(Collectors.toList()));
+                }
+            } else {
+                maps.add(input);
+            }
+        }
+        Collections.sort(maps);
+        return maps;
+    }
+
+    private static boolean isMapFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(PropertiesMapFormat.EXTENSION) || name.endsWith(BinaryMapFormat.EXTENSION);
+    }
+
+    /**
+     * Validate all maps on a pool of the given size; reports are in input order.
+     */
+    public static Report[] validateAll(List<Path> maps, int threads) {
+        Report[] reports = new Report[maps.size()];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new ValidateRange(maps, reports, 0, maps.size()));
+        } finally {
+            pool.shutdown();
+        }
+        return reports;
+    }
+
+    private static class ValidateRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Path> maps;
+        private final Report[] reports;
+        private final int from;
+        private final int to;
+
+        ValidateRange(List<Path> maps, Report[] reports, int from, int to) {
+            this.maps = maps;
+            this.reports = reports;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    reports[i] = validate(maps.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ValidateRange(maps, reports, from, mid), new ValidateRange(maps, reports, mid, to));
+        }
+    }
+
+    public static Report validate(Path path) {
+        Report report = new Report(path);
+        long start = System.nanoTime();
+        MapData map;
+        try {
+            map = read(path);
+        } catch (IOException | RuntimeException e) {
+            report.parseNanos = System.nanoTime() - start;
+            report.status = STATUS_ERROR;
+            report.error = String.valueOf(e.getMessage());
+            return report;
+        }
+        report.parseNanos = System.nanoTime() - start;
+        report.width = map.width;
+        report.height = map.height;
+
+        start = System.nanoTime();
+        try {
+            VALIDATORS.get().validate(map);
+            report.status = STATUS_OK;
+        } catch (RuntimeException e) {
+            report.status = STATUS_INVALID;
+            report.error = String.valueOf(e.getMessage());
+        }
+        report.validateNanos = System.nanoTime() - start;
+        return report;
+    }
+
+    private static MapData read(Path path) throws IOException {
+        if (path.getFileName().toString().endsWith(BinaryMapFormat.EXTENSION)) {
+            return BinaryMapFormat.readMapped(path);
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            return PropertiesMapFormat.read(in);
+        }
+    }
+
+    public static void writeCsv(Report[] reports, PrintWriter out) {
+        out.println("path,status,width,height,parse_ms,validate_ms,error");
+        for (Report report : reports) {
+            out.printf(Locale.ROOT, "%s,%s,%d,%d,%.3f,%.3f,%s%n",
+                csv(report.path.toString()), report.status, report.width, report.height,
+                report.parseNanos / 1e6, report.validateNanos / 1e6, csv(report.error));
+        }
+        out.flush();
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,246 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.gameobjects.Exit;
+import Maze.Runner.gameobjects.GameObject;
+import Maze.Runner.gameobjects.HeartPickup;
+import Maze.Runner.gameobjects.Key;
+import Maze.Runner.gameobjects.PowerUp;
+import Maze.Runner.gameobjects.Trap;
+import Maze.Runner.gameobjects.Wall;
+import Maze.Runner.world.Maze;
+import Maze.Runner.world.TileKind;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.Locale;
+
+/**
+ * Tile query cost of {@link Maze}'s tile-kind layer against the old storage, a
+ * {@code GameObject[][]} grid answered with instanceof checks. Both hold the same objects
+ * (a third walls, a few traps and pickups, one exit), created without textures.
+ * Each query kind is timed over a row-major scan of the whole grid and over the same number
+ * of random cells; the best of {@code --rounds} is printed as ms per pass and ns per query.
+ * With {@code --memory n} it instead carves an n x n binary-tree maze into wall-filled storage,
+ * scatters sparse pickups and traps, and checks {@link Maze#memoryReport()} against
+ * {@link #MEMORY_LIMIT_BYTES}; the exit code is 1 if the maze is over.
+ * Usage: MazeStorageBenchmark [--size 1024] [--rounds 15] [--seed s] [--memory 10000]
+ * Run through Gradle with {@code ./gradlew core:benchmarkMazeStorage} or {@code core:benchmarkMazeMemory}.
+ */
+public class MazeStorageBenchmark {
+
+    private static final String[] QUERIES = {"wall", "trap", "pickup", "exit"};
+    private static final int WALL = 0;
+    private static final int TRAP = 1;
+    private static final int PICKUP = 2;
+
+    // Storage budget for a 10k x 10k world
+    private static final long MEMORY_LIMIT_BYTES = 256L * 1024 * 1024;
+
+    // One object per this many open cells in memory mode
+    private static final int OBJECT_SPACING = 2000;
+
+    // Keeps the JIT from dropping the query loops
+    private static long sink;
+
+    public static void main(String[] args) {
+        int size = 1024;
+        int rounds = 15;
+        long seed = 42;
+        int memorySize = 0;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--size":
+                    size = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--rounds":
+                    rounds = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                case "--memory":
+                    memorySize = Integer.parseInt(args[i + 1]);
+                    break;
+                default:
+                    System.err.println("Usage: MazeStorageBenchmark [--size 1024] [--rounds 15] [--seed s] [--memory 10000]");
+                    System.exit(2);
+            }
+        }
+        if (memorySize > 0) {
+            System.exit(checkMemory(memorySize, seed) ? 0 : 1);
+        }
+
+        RandomXS128 random = new RandomXS128(seed);
+        GameObject[][] grid = new GameObject[size][size];
+        Maze maze = new Maze(size, size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                GameObject obj = randomObject(random, x, y);
+                grid[x][y] = obj;
+                if (obj != null) maze.set(x, y, obj);
+            }
+        }
+        Exit exit = new Exit(size / 2, size / 2, null);
+        grid[size / 2][size / 2] = exit;
+        maze.set(size / 2, size / 2, exit);
+
+        int cells = size * size;
+        int[] randomX = new int[cells];
+        int[] randomY = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            randomX[i] = random.nextInt(size);
+            randomY[i] = random.nextInt(size);
+        }
+
+        System.out.println("query,access,size,object_grid_ms,tile_kind_ms,object_grid_ns_per_query,"
+            + "tile_kind_ns_per_query,speedup");
+        for (int query = 0; query < QUERIES.length; query++) {
+            for (boolean scan : new boolean[]{true, false}) {
+                long gridBest = Long.MAX_VALUE;
+                long kindBest = Long.MAX_VALUE;
+                for (int round = 0; round < rounds; round++) {
+                    long start = System.nanoTime();
+                    sink += scan ? scanGrid(grid, size, query) : sampleGrid(grid, randomX, randomY, query);
+                    gridBest = Math.min(gridBest, System.nanoTime() - start);
+
+                    start = System.nanoTime();
+                    sink += scan ? scanMaze(maze, size, query) : sampleMaze(maze, randomX, randomY, query);
+                    kindBest = Math.min(kindBest, System.nanoTime() - start);
+                }
+                System.out.printf(Locale.ROOT, "%s,%s,%dx%d,%.3f,%.3f,%.2f,%.2f,%.1f%n", QUERIES[query],
+                    scan ? "scan" : "random", size, size, gridBest / 1e6, kindBest / 1e6,
+                    gridBest / (double) cells, kindBest / (double) cells, gridBest / (double) kindBest);
+            }
+        }
+        if (sink == 42) System.out.println();
+    }
+
+    /**
+     * Build a fully carved size x size maze and print its storage report against the limit.
+     *
+     * @return true if the maze stays under {@link #MEMORY_LIMIT_BYTES}
+     */
+    private static boolean checkMemory(int size, long seed) {
+        RandomXS128 random = new RandomXS128(seed);
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+
+        // Binary-tree maze: every odd cell opens, then carves north or east; touches every chunk
+        Maze maze = new Maze(size, size, TileKind.WALL);
+        int objects = 0;
+        for (int y = 1; y < size - 1; y += 2) {
+            for (int x = 1; x < size - 1; x += 2) {
+                if (random.nextInt(OBJECT_SPACING / 2) == 0) {
+                    maze.set(x, y, random.nextBoolean() ? new Trap(x, y, null) : new Key(x, y, null));
+                    objects++;
+                } else {
+                    maze.setTileKind(x, y, TileKind.EMPTY);
+                }
+                boolean canNorth = y + 2 < size - 1;
+                boolean canEast = x + 2 < size - 1;
+                if (canNorth && (!canEast || random.nextBoolean())) {
+                    maze.setTileKind(x, y + 1, TileKind.EMPTY);
+                } else if (canEast) {
+                    maze.setTileKind(x + 1, y, TileKind.EMPTY);
+                }
+            }
+        }
+        long buildNanos = System.nanoTime() - start;
+
+        // Measured before the report so the maze is still live during the collection
+        long heapAfter = usedHeap();
+        Maze.MemoryReport report = maze.memoryReport();
+        boolean ok = report.totalBytes() <= MEMORY_LIMIT_BYTES;
+        System.out.printf(Locale.ROOT, "maze %dx%d, %d objects, built in %.0f ms%n",
+            size, size, objects, buildNanos / 1e6);
+        System.out.println("storage: " + report);
+        System.out.printf(Locale.ROOT, "storage %.1f MB (chunk table %.1f, chunks %.1f, wall bitmap %.1f), limit %d MB: %s%n",
+            mb(report.totalBytes()), mb(report.chunkTableBytes), mb(report.chunkBytes), mb(report.wallBitmapBytes),
+            MEMORY_LIMIT_BYTES / (1024 * 1024), ok ? "OK" : "OVER");
+        // Includes the objects and Maze's per-category lists, which the report leaves out
+        System.out.printf(Locale.ROOT, "measured heap growth %.1f MB%n", mb(heapAfter - heapBefore));
+        return ok;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static GameObject randomObject(RandomXS128 random, int x, int y) {
+        int roll = random.nextInt(300);
+        if (roll < 100) return new Wall(x, y, null);
+        if (roll < 106) return new Trap(x, y, null);
+        if (roll < 108) return new Key(x, y, null);
+        if (roll < 110) return new HeartPickup(x, y, null);
+        return null;
+    }
+
+    private static boolean matches(GameObject obj, int query) {
+        switch (query) {
+            case WALL:
+                return obj instanceof Wall;
+            case TRAP:
+                return obj instanceof Trap;
+            case PICKUP:
+                return obj instanceof Key || obj instanceof HeartPickup || obj instanceof PowerUp;
+            default:
+                return obj instanceof Exit;
+        }
+    }
+
+    private static boolean matches(Maze maze, int x, int y, int query) {
+        switch (query) {
+            case WALL:
+                return maze.isWall(x, y);
+            case TRAP:
+                return maze.isTrap(x, y);
+            case PICKUP:
+                return maze.isPickup(x, y);
+            default:
+                return maze.isExit(x, y);
+        }
+    }
+
+    private static int scanGrid(GameObject[][] grid, int size, int query) {
+        int hits = 0;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (matches(grid[x][y], query)) hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static int scanMaze(Maze maze, int size, int query) {
+        int hits = 0;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (matches(maze, x, y, query)) hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static int sampleGrid(GameObject[][] grid, int[] xs, int[] ys, int query) {
+        int hits = 0;
+        for (int i = 0; i < xs.length; i++) {
+            if (matches(grid[xs[i]][ys[i]], query)) hits++;
+        }
+        return hits;
+    }
+
+    private static int sampleMaze(Maze maze, int[] xs, int[] ys, int query) {
+        int hits = 0;
+        for (int i = 0; i < xs.length; i++) {
+            if (matches(maze, xs[i], ys[i], query)) hits++;
+        }
+        return hits;
+    }
+}
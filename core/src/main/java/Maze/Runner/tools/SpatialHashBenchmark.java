@@ -0,0 +1,165 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.gameobjects.Enemy;
+import Maze.Runner.gameobjects.GameObject;
+import Maze.Runner.world.SpatialHash;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Broadphase cost per frame with many moving enemies, headless. Enemies wander at up to
+ * {@link #MAX_SPEED} tiles per second over a square maze, bouncing off its border, and are
+ * kept in a {@link SpatialHash} through their position listener. Each 60 fps frame moves every
+ * enemy, then runs the given number of 2x2-tile AABB queries at random places.
+ * Prints the mean move and query time per frame for each maze size, and a linear scan over all
+ * enemies for the same queries as the baseline; the query time should stay flat as the maze grows.
+ * Usage: SpatialHashBenchmark [--sizes 256,1024,4096] [--enemies 10000] [--queries 1000]
+ * [--frames 300] [--cell-size 4] [--seed s]
+ * Run through Gradle with {@code ./gradlew core:benchmarkSpatialHash}.
+ */
+public class SpatialHashBenchmark {
+
+    private static final float FRAME_SECONDS = 1f / 60f;
+    private static final float MAX_SPEED = 3f;
+    private static final float QUERY_SIZE = 2f;
+
+    /**
+     * Enemy moving in a straight line through {@code translate}, like the game's enemies do.
+     */
+    private static class Wanderer extends Enemy {
+        private final int mazeSize;
+        private float vx;
+        private float vy;
+
+        Wanderer(float x, float y, float vx, float vy, int mazeSize) {
+            super(x, y, null);
+            this.vx = vx;
+            this.vy = vy;
+            this.mazeSize = mazeSize;
+        }
+
+        @Override
+        public void update(float deltaTime) {
+            float nx = position.x + vx * deltaTime;
+            float ny = position.y + vy * deltaTime;
+            if (nx < 0 || nx > mazeSize - 1) vx = -vx;
+            if (ny < 0 || ny > mazeSize - 1) vy = -vy;
+            translate(vx * deltaTime, vy * deltaTime);
+        }
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = {256, 1024, 4096};
+        int enemies = 10000;
+        int queries = 1000;
+        int frames = 300;
+        int cellSize = 4;
+        long seed = 42;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--sizes":
+                    sizes = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--enemies":
+                    enemies = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--queries":
+                    queries = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--frames":
+                    frames = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--cell-size":
+                    cellSize = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    System.err.println("Usage: SpatialHashBenchmark [--sizes 256,1024,4096] [--enemies 10000]"
+                        + " [--queries 1000] [--frames 300] [--cell-size 4] [--seed s]");
+                    System.exit(2);
+            }
+        }
+
+        System.out.println("maze,enemies,queries,cell_size,move_ms,query_ms,frame_ms,linear_query_ms,hits_per_query");
+        // First round warms up the JIT
+        run(sizes[0], enemies, queries, frames, cellSize, seed, false);
+        for (int size : sizes) {
+            run(size, enemies, queries, frames, cellSize, seed, true);
+        }
+    }
+
+    private static void run(int size, int enemyCount, int queries, int frames, int cellSize, long seed,
+                            boolean print) {
+        RandomXS128 random = new RandomXS128(seed);
+        SpatialHash hash = new SpatialHash(cellSize);
+        Wanderer[] enemies = new Wanderer[enemyCount];
+        for (int i = 0; i < enemyCount; i++) {
+            float angle = random.nextFloat() * 2f * (float) Math.PI;
+            float speed = random.nextFloat() * MAX_SPEED;
+            enemies[i] = new Wanderer(random.nextFloat() * (size - 1), random.nextFloat() * (size - 1),
+                (float) Math.cos(angle) * speed, (float) Math.sin(angle) * speed, size);
+            hash.insert(enemies[i]);
+        }
+
+        Array<GameObject> found = new Array<>(false, 64, GameObject[]::new);
+        float[] queryX = new float[queries];
+        float[] queryY = new float[queries];
+        long moveNanos = 0;
+        long queryNanos = 0;
+        long linearNanos = 0;
+        long hits = 0;
+        long linearHits = 0;
+        for (int frame = 0; frame < frames; frame++) {
+            for (int q = 0; q < queries; q++) {
+                queryX[q] = random.nextFloat() * (size - QUERY_SIZE);
+                queryY[q] = random.nextFloat() * (size - QUERY_SIZE);
+            }
+
+            long start = System.nanoTime();
+            for (Wanderer enemy : enemies) {
+                enemy.update(FRAME_SECONDS);
+            }
+            moveNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int q = 0; q < queries; q++) {
+                found.clear();
+                hits += hash.query(queryX[q], queryY[q], QUERY_SIZE, QUERY_SIZE, found);
+            }
+            queryNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int q = 0; q < queries; q++) {
+                found.clear();
+                linearHits += linearQuery(enemies, queryX[q], queryY[q], found);
+            }
+            linearNanos += System.nanoTime() - start;
+        }
+        hash.clear();
+        if (hits != linearHits) {
+            throw new IllegalStateException("Spatial hash found " + hits + " objects, linear scan " + linearHits);
+        }
+        if (!print) return;
+        System.out.printf(Locale.ROOT, "%dx%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.2f%n", size, size, enemyCount, queries,
+            cellSize, moveNanos / 1e6 / frames, queryNanos / 1e6 / frames, (moveNanos + queryNanos) / 1e6 / frames,
+            linearNanos / 1e6 / frames, hits / (double) queries / frames);
+    }
+
+    private static int linearQuery(Wanderer[] enemies, float x, float y, Array<GameObject> out) {
+        int found = 0;
+        for (Wanderer enemy : enemies) {
+            float ox = enemy.getPosition().x;
+            float oy = enemy.getPosition().y;
+            if (ox < x + QUERY_SIZE && ox + 1f > x && oy < y + QUERY_SIZE && oy + 1f > y) {
+                out.add(enemy);
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,191 @@
+package Maze.Runner.tools;
+
+import Maze.Runner.world.MapData;
+import Maze.Runner.world.ProceduralMazeGenerator;
+import Maze.Runner.world.ReachabilityValidator;
+import Maze.Runner.world.WallBitmap;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Stack;
+
+/**
+ * Entry-to-exit validation cost on large maps, headless. Times {@link ReachabilityValidator}'s
+ * span flood fill on a prebuilt wall bitmap and together with building the bitmap from the map
+ * codes (what a load pays), best of {@code --rounds}. The baseline is the boxed
+ * GridPosition/Stack/HashSet search the loader used before, run {@code --baseline-runs} times
+ * (off by default, it takes up to a minute per shape at 4096).
+ * With {@code --max-ms} the bitmap plus fill time of every shape is checked against that budget
+ * and the exit code is 1 if any shape is over.
+ * Map shapes: "rows" and "columns" are serpentines of full-width walls with one gap at
+ * alternating ends (columns is the worst case for horizontal spans), "perfect" is a generated
+ * maze with the entry and exit in opposite corners and "random" has 30% random walls.
+ * Usage: ValidationBenchmark [--size 4096] [--rounds 15] [--baseline-runs 0] [--max-ms ms] [--seed s]
+ * Run through Gradle with {@code ./gradlew core:benchmarkValidation}.
+ */
+public class ValidationBenchmark {
+
+    private static final String[] SHAPES = {"rows", "perfect", "random", "columns"};
+
+    /**
+     * Boxed grid cell, as used by the old validator.
+     */
+    private static final class Cell {
+        final int x;
+        final int y;
+
+        Cell(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Cell)) return false;
+            Cell that = (Cell) o;
+            return x == that.x && y == that.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(x, y);
+        }
+    }
+
+    public static void main(String[] args) {
+        int size = 4096;
+        int rounds = 15;
+        int baselineRuns = 0;
+        double maxMs = 0;
+        long seed = 42;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--size":
+                    size = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--rounds":
+                    rounds = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--baseline-runs":
+                    baselineRuns = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--max-ms":
+                    maxMs = Double.parseDouble(args[i + 1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    System.err.println("Usage: ValidationBenchmark [--size 4096] [--rounds 15] [--baseline-runs 0]"
+                        + " [--max-ms ms] [--seed s]");
+                    System.exit(2);
+            }
+        }
+
+        System.out.println("shape,size,reachable,fill_ms,bitmap_and_fill_ms,boxed_search_ms");
+        ReachabilityValidator validator = new ReachabilityValidator();
+        int over = 0;
+        for (String shape : SHAPES) {
+            MapData map = buildMap(shape, size, seed);
+            WallBitmap walls = map.toWallBitmap();
+            boolean reachable = false;
+            long fillBest = Long.MAX_VALUE;
+            long totalBest = Long.MAX_VALUE;
+            for (int round = 0; round < rounds; round++) {
+                long start = System.nanoTime();
+                reachable = validator.isReachable(walls, map.entryX, map.entryY, map.exitX, map.exitY);
+                fillBest = Math.min(fillBest, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                walls = map.toWallBitmap(walls);
+                validator.isReachable(walls, map.entryX, map.entryY, map.exitX, map.exitY);
+                totalBest = Math.min(totalBest, System.nanoTime() - start);
+            }
+
+            long baselineBest = Long.MAX_VALUE;
+            for (int run = 0; run < baselineRuns; run++) {
+                long start = System.nanoTime();
+                boolean boxed = boxedSearch(map);
+                baselineBest = Math.min(baselineBest, System.nanoTime() - start);
+                if (boxed != reachable) {
+                    throw new IllegalStateException("Validators disagree on the " + shape + " map");
+                }
+            }
+            System.out.printf(Locale.ROOT, "%s,%dx%d,%b,%.1f,%.1f,%s%n", shape, map.width, map.height, reachable,
+                fillBest / 1e6, totalBest / 1e6,
+                baselineRuns > 0 ? String.format(Locale.ROOT, "%.1f", baselineBest / 1e6) : "");
+            if (maxMs > 0 && totalBest / 1e6 > maxMs) over++;
+        }
+        if (maxMs > 0) {
+            System.out.printf(Locale.ROOT, "budget %.1f ms per shape: %s%n", maxMs,
+                over == 0 ? "OK" : over + " shape(s) OVER");
+            if (over > 0) System.exit(1);
+        }
+    }
+
+    private static MapData buildMap(String shape, int size, long seed) {
+        if ("perfect".equals(shape)) {
+            int cells = Math.max(1, (size - 1) / 2);
+            return new ProceduralMazeGenerator(ProceduralMazeGenerator.BACKTRACKER, seed).generateMap(cells, cells);
+        }
+
+        MapData map = new MapData(size, size);
+        Arrays.fill(map.codes, MapData.NONE);
+        if ("random".equals(shape)) {
+            RandomXS128 random = new RandomXS128(seed);
+            for (int i = 0; i < map.codes.length; i++) {
+                if (random.nextInt(10) < 3) map.codes[i] = MapData.WALL;
+            }
+        } else {
+            boolean columns = "columns".equals(shape);
+            for (int line = 1; line < size; line += 2) {
+                int gap = (line / 2) % 2 == 0 ? size - 1 : 0;
+                for (int along = 0; along < size; along++) {
+                    if (along == gap) continue;
+                    if (columns) {
+                        map.set(line, along, MapData.WALL);
+                    } else {
+                        map.set(along, line, MapData.WALL);
+                    }
+                }
+            }
+        }
+        map.set(0, 0, MapData.ENTRY);
+        map.set(size - 1, size - 1, MapData.EXIT);
+        return map;
+    }
+
+    /**
+     * The validator before the span flood fill, kept here as the baseline.
+     */
+    private static boolean boxedSearch(MapData map) {
+        Cell exit = new Cell(map.exitX, map.exitY);
+        Set<Cell> visited = new HashSet<>();
+        Stack<Cell> stack = new Stack<>();
+        stack.push(new Cell(map.entryX, map.entryY));
+
+        while (!stack.isEmpty()) {
+            Cell pos = stack.pop();
+            if (visited.contains(pos)) continue;
+            visited.add(pos);
+            if (pos.equals(exit)) return true;
+
+            int[][] directions = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+            for (int[] dir : directions) {
+                int nextX = pos.x + dir[0];
+                int nextY = pos.y + dir[1];
+                Cell next = new Cell(nextX, nextY);
+                if (!visited.contains(next)
+                    && nextX >= 0 && nextY >= 0 && nextX < map.width && nextY < map.height
+                    && map.get(nextX, nextY) != MapData.WALL) {
+                    stack.push(next);
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,168 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads levels in the background so the render thread never blocks on parsing or validation.
+ * Textures are acquired on the GL thread when a load starts: packed images are atlas regions,
+ * other images get a stand-in texture and are queued. The worker decodes the queued images,
+ * then parses, creates the objects and labels regions. {@link #update()} uploads a few decoded
+ * images per frame and hands out progress and finished levels on the GL thread.
+ */
+public class AsyncLevelLoader implements Disposable {
+
+    // Share of the progress bar for parsing and for building rows (validation runs at the start
+    // of the build, or during parsing on a map cache miss); the rest is region labelling and
+    // the chase field
+    private static final float PARSE_SHARE = 0.3f;
+    private static final float BUILD_SHARE = 0.6f;
+
+    // Decoded level images uploaded per update() call
+    private static final int UPLOADS_PER_UPDATE = 2;
+
+    private static class Job {
+        final String path;
+        final MazeLoader.MazeLoadResult prepared;
+        Future<MazeLoader.MazeLoadResult> future;
+        volatile float progress;
+        float reported = -1f;
+        LoadListener listener;
+
+        Job(String path, MazeLoader.MazeLoadResult prepared) {
+            this.path = path;
+            this.prepared = prepared;
+        }
+    }
+
+    private final MazeLoader loader;
+    private final ExecutorService worker;
+    private final ObjectMap<String, Job> jobs = new ObjectMap<>();
+    private final Array<Job> active = new Array<>();
+
+    /**
+     * @param loader used only through this instance from now on; its object creation
+     *               runs on the worker thread
+     */
+    public AsyncLevelLoader(MazeLoader loader) {
+        this.loader = loader;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "level-loader");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Start loading a map nobody waits for yet, e.g. the next level while this one is played.
+     * A later {@link #load} of the same map picks up the result.
+     */
+    public void prefetch(String mapPath) {
+        start(mapPath);
+    }
+
+    /**
+     * Load a map and report to the listener, reusing a pending or finished prefetch.
+     */
+    public void load(String mapPath, LoadListener listener) {
+        start(mapPath).listener = listener;
+    }
+
+    private Job start(String mapPath) {
+        Job job = jobs.get(mapPath);
+        if (job != null) return job;
+
+        Job created = new Job(mapPath, loader.prepare());
+        created.future = worker.submit(() -> {
+            loader.decodeQueuedTextures();
+            MapData map = loader.readMapData(mapPath);
+            created.progress = PARSE_SHARE;
+            int rows = map.height;
+            MazeLoader.MazeLoadResult result = loader.build(map, created.prepared,
+                built -> created.progress = PARSE_SHARE + BUILD_SHARE * built / rows);
+            // the field's buffers scale with the map, so allocate them here rather than on hand-over
+            result.chaseField = new FlowField(result.maze);
+            created.progress = 1f;
+            return result;
+        });
+        jobs.put(mapPath, created);
+        return created;
+    }
+
+    public boolean isReady(String mapPath) {
+        Job job = jobs.get(mapPath);
+        return job != null && job.future.isDone();
+    }
+
+    /**
+     * Progress of a pending load in 0..1, or 0 if the map is not being loaded.
+     */
+    public float getProgress(String mapPath) {
+        Job job = jobs.get(mapPath);
+        return job == null ? 0f : job.progress;
+    }
+
+    /**
+     * Deliver progress and finished levels to their listeners. Call once per frame on the GL thread.
+     * Prefetched levels without a listener stay here until someone loads them.
+     */
+    public void update() {
+        loader.uploadQueuedTextures(UPLOADS_PER_UPDATE);
+
+        // Listeners may start new loads, so iterate a snapshot
+        for (Job job : jobs.values()) {
+            if (job.listener != null) active.add(job);
+        }
+        for (Job job : active) {
+            boolean done = job.future.isDone();
+            float progress = job.progress;
+            if (progress != job.reported) {
+                job.reported = progress;
+                job.listener.onProgress(job.path, progress);
+            }
+            if (!done) continue;
+
+            jobs.remove(job.path);
+            MazeLoader.MazeLoadResult result;
+            try {
+                result = job.future.get();
+            } catch (ExecutionException | InterruptedException e) {
+                job.prepared.dispose();
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                job.listener.onFailed(job.path, cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new RuntimeException("Failed to load map " + job.path, cause));
+                continue;
+            }
+            job.listener.onLoaded(job.path, result);
+        }
+        active.clear();
+    }
+
+    /**
+     * Drop a pending or prefetched load and release its textures.
+     */
+    public void cancel(String mapPath) {
+        Job job = jobs.remove(mapPath);
+        if (job == null) return;
+        job.future.cancel(false);
+        job.prepared.dispose();
+    }
+
+    @Override
+    public void dispose() {
+        for (Job job : jobs.values()) {
+            job.future.cancel(false);
+            job.prepared.dispose();
+        }
+        jobs.clear();
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,41 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.Arrays;
+
+/**
+ * Recursive backtracker (randomized depth-first search) on an explicit int stack:
+ * long, winding corridors with few dead ends. Stack depth is bounded by the cell count, not
+ * by the thread stack, so any size works.
+ */
+public class BacktrackerAlgorithm implements MazeAlgorithm {
+
+    @Override
+    public void carve(int cellsWide, int cellsHigh, RandomXS128 random, Carver out) {
+        int cells = cellsWide * cellsHigh;
+        long[] visited = new long[(cells + 63) >>> 6];
+        int[] stack = new int[Math.min(cells, 1024)];
+        int[] options = new int[4];
+
+        int start = random.nextInt(cells);
+        visited[start >>> 6] |= 1L << start;
+        ProceduralMazeGenerator.openCell(out, cellsWide, start);
+        stack[0] = start;
+        int size = 1;
+        while (size > 0) {
+            int cell = stack[size - 1];
+            int n = ProceduralMazeGenerator.unvisitedNeighbours(cell, cellsWide, cellsHigh, visited, options);
+            if (n == 0) {
+                size--;
+                continue;
+            }
+            int next = options[n == 1 ? 0 : random.nextInt(n)];
+            visited[next >>> 6] |= 1L << next;
+            ProceduralMazeGenerator.openPassage(out, cellsWide, cell, next);
+            ProceduralMazeGenerator.openCell(out, cellsWide, next);
+            if (size == stack.length) stack = Arrays.copyOf(stack, Math.min(cells, size * 2));
+            stack[size++] = next;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package Maze.Runner.world;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary map format (.mzb).
+ *
+ * Layout (big endian):
+ * <pre>
+ *  0  int    magic "MZB\0"
+ *  4  short  version
+ *  6  short  flags (bit 0: layout was validated, see {@link #FLAG_VALIDATED})
+ *  8  int    width
+ * 12  int    height
+ * 16  int    entryX, entryY, exitX, exitY (-1 if missing)
+ * 32  int    payload length in bytes
+ * 36  int    CRC32 of the payload
+ * 40  ...    payload: for every row, runs of (varint length, code byte) covering the row
+ * </pre>
+ */
+public final class BinaryMapFormat {
+
+    public static final String EXTENSION = ".mzb";
+    public static final int MAGIC = 0x4D5A4200;
+    public static final short VERSION = 1;
+    public static final int HEADER_BYTES = 40;
+    public static final short FLAG_VALIDATED = 1;
+
+    private BinaryMapFormat() {
+    }
+
+    public static void write(MapData map, OutputStream out) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(map.height * 4);
+        for (int y = 0; y < map.height; y++) {
+            int row = y * map.width;
+            int x = 0;
+            while (x < map.width) {
+                byte code = map.codes[row + x];
+                int run = 1;
+                while (x + run < map.width && map.codes[row + x + run] == code) run++;
+                writeVarInt(payload, run);
+                payload.write(code);
+                x += run;
+            }
+        }
+        byte[] body = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.putShort(map.validated ? FLAG_VALIDATED : 0);
+        header.putInt(map.width);
+        header.putInt(map.height);
+        header.putInt(map.entryX);
+        header.putInt(map.entryY);
+        header.putInt(map.exitX);
+        header.putInt(map.exitY);
+        header.putInt(body.length);
+        header.putInt((int) crc.getValue());
+        out.write(header.array());
+        out.write(body);
+    }
+
+    /**
+     * Memory-map a .mzb file and decode it.
+     */
+    public static MapData readMapped(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        }
+    }
+
+    /**
+     * Decode a .mzb image starting at the buffer's position. The result is never marked
+     * validated, whatever the header says: a file from assets, a pack or elsewhere could claim
+     * anything. Only {@link MapCache}, which wrote its entries itself, trusts the flag.
+     */
+    public static MapData read(ByteBuffer buffer) throws IOException {
+        int base = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt(base) != MAGIC) {
+            throw new IOException("Not a .mzb map");
+        }
+        short version = buffer.getShort(base + 4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported .mzb version " + version);
+        }
+        int width = buffer.getInt(base + 8);
+        int height = buffer.getInt(base + 12);
+        int payloadLength = buffer.getInt(base + 32);
+        int checksum = buffer.getInt(base + 36);
+        if (width <= 0 || height <= 0 || buffer.remaining() < HEADER_BYTES + payloadLength) {
+            throw new IOException("Corrupt .mzb header");
+        }
+
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(base + HEADER_BYTES);
+        payload.limit(base + HEADER_BYTES + payloadLength);
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Checksum mismatch in .mzb map");
+        }
+
+        MapData map = new MapData(width, height);
+        byte[] codes = map.codes;
+        int cells = width * height;
+        int cell = 0;
+        while (cell < cells) {
+            int run = readVarInt(payload);
+            byte code = payload.get();
+            if (run <= 0 || cell + run > cells || (cell % width) + run > width) {
+                throw new IOException("Corrupt .mzb row data");
+            }
+            if (code != MapData.NONE) {
+                Arrays.fill(codes, cell, cell + run, code);
+            }
+            cell += run;
+        }
+        map.entryX = buffer.getInt(base + 16);
+        map.entryY = buffer.getInt(base + 20);
+        map.exitX = buffer.getInt(base + 24);
+        map.exitY = buffer.getInt(base + 28);
+        buffer.position(base + HEADER_BYTES + payloadLength);
+        return map;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Corrupt varint in .mzb map");
+    }
+}
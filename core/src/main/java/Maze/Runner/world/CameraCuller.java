@@ -0,0 +1,73 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.GameObject;
+import Maze.Runner.utils.Constants;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Turns what an orthographic camera can see into an inclusive tile range,
+ * so rendering only submits tiles and entities on screen.
+ */
+public class CameraCuller {
+
+    // Extra tiles around the view so objects sliding in from the edge are not popped in late
+    private static final int MARGIN_TILES = 1;
+
+    private int minX;
+    private int minY;
+    private int maxX;
+    private int maxY;
+
+    /**
+     * Clamp a camera zoom to [MIN_ZOOM, MAX_ZOOM], which bounds the largest tile range ever visible.
+     */
+    public static float clampZoom(float zoom) {
+        return MathUtils.clamp(zoom, Constants.MIN_ZOOM, Constants.MAX_ZOOM);
+    }
+
+    /**
+     * Recompute the visible tile range; call after camera.update().
+     */
+    public void update(OrthographicCamera camera, int mazeWidth, int mazeHeight) {
+        float zoom = camera.zoom;
+        float halfWidth = camera.viewportWidth * zoom / 2f;
+        float halfHeight = camera.viewportHeight * zoom / 2f;
+
+        minX = Math.max(0, MathUtils.floor((camera.position.x - halfWidth) / Constants.TILE_SIZE) - MARGIN_TILES);
+        minY = Math.max(0, MathUtils.floor((camera.position.y - halfHeight) / Constants.TILE_SIZE) - MARGIN_TILES);
+        maxX = Math.min(mazeWidth - 1, MathUtils.floor((camera.position.x + halfWidth) / Constants.TILE_SIZE) + MARGIN_TILES);
+        maxY = Math.min(mazeHeight - 1, MathUtils.floor((camera.position.y + halfHeight) / Constants.TILE_SIZE) + MARGIN_TILES);
+    }
+
+    public boolean isVisible(int tileX, int tileY) {
+        return tileX >= minX && tileX <= maxX && tileY >= minY && tileY <= maxY;
+    }
+
+    public boolean isVisible(GameObject obj) {
+        return isVisible(MathUtils.floor(obj.getPosition().x), MathUtils.floor(obj.getPosition().y));
+    }
+
+    /**
+     * True when nothing of the maze is on screen.
+     */
+    public boolean isEmpty() {
+        return minX > maxX || minY > maxY;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+}
@@ -0,0 +1,164 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.Arrays;
+
+/**
+ * Places keys, hearts, traps, enemies and lasers on a generated map (empty tiles only).
+ * Distance maps from the entry and the exit are computed once by a {@link MazeAnalyzer};
+ * with them every rule is an O(1) test on a candidate tile: a tile is on the solution path
+ * when its two distances add up to the path length, and (distance to entry + distance to exit
+ * - path length) / 2 is how far it lies off that path. Spacing between items is kept in a
+ * packed bitset: each placed item marks the square around it, so checking a candidate is a
+ * single bit test. Candidates are drawn at random from the tiles reachable from the exit.
+ * Not thread-safe; use one per thread.
+ */
+public class ContentPlacer {
+
+    /**
+     * How much to place and where. Distances are path lengths in tiles.
+     */
+    public static class Rules {
+        public int keys = 1;
+        public int hearts;
+        public int traps;
+        public int enemies;
+        public int lasers;
+
+        public int minKeyDetour = 4;        // keys at least this far off the solution path
+        public int minHazardDistance = 4;   // traps, enemies and lasers at least this far from the entry
+        public boolean hazardsOnPath = true; // traps and enemies may sit on the solution path (lasers never do)
+        public int spacing = 2;             // no two items within this many tiles of each other (Chebyshev)
+        public int attemptsPerItem = 64;
+    }
+
+    /**
+     * Items actually placed; fewer than asked when the map ran out of suitable tiles.
+     */
+    public static class Result {
+        public int keys;
+        public int hearts;
+        public int traps;
+        public int enemies;
+        public int lasers;
+        public long placeNanos;     // excluding the distance maps
+
+        public int total() {
+            return keys + hearts + traps + enemies + lasers;
+        }
+    }
+
+    private final MazeAnalyzer analyzer = new MazeAnalyzer();
+    private long[] occupied = new long[0];
+
+    // State of the current place call
+    private MapData map;
+    private int[] fromEntry;
+    private int[] fromExit;
+    private int[] reachable;
+    private int reachableCount;
+    private int length;
+
+    /**
+     * Place the items of {@code rules} into {@code map}.
+     *
+     * @throws RuntimeException if the map has no reachable exit or not all keys fit
+     */
+    public Result place(MapData map, Rules rules, RandomXS128 random) {
+        if (!map.hasEntry() || !map.hasExit()) {
+            throw new RuntimeException("Entry or Exit is null");
+        }
+        length = analyzer.computeDistances(map);
+        if (length < 0) {
+            throw new RuntimeException("Exit unreachable from entry - invalid maze!");
+        }
+        long start = System.nanoTime();
+        this.map = map;
+        fromEntry = analyzer.entryDistances();
+        fromExit = analyzer.exitDistances();
+        reachable = analyzer.reachable();
+        reachableCount = analyzer.reachableCount();
+        int words = (map.width * map.height + 63) >>> 6;
+        if (occupied.length < words) {
+            occupied = new long[words];
+        } else {
+            Arrays.fill(occupied, 0, words, 0L);
+        }
+        // Entry and exit keep their surroundings free as well
+        mark(map.entryX, map.entryY, rules.spacing);
+        mark(map.exitX, map.exitY, rules.spacing);
+
+        Result result = new Result();
+        // Most constrained first
+        result.keys = placeAll(MapData.KEY, rules.keys, rules, random);
+        if (result.keys < rules.keys) {
+            throw new RuntimeException("Could only place " + result.keys + " of " + rules.keys + " keys");
+        }
+        result.lasers = placeAll(MapData.LASER, rules.lasers, rules, random);
+        result.traps = placeAll(MapData.TRAP, rules.traps, rules, random);
+        result.enemies = placeAll(MapData.ENEMY, rules.enemies, rules, random);
+        result.hearts = placeAll(MapData.HEART, rules.hearts, rules, random);
+        result.placeNanos = System.nanoTime() - start;
+        map.validated = false;
+        this.map = null;
+        return result;
+    }
+
+    /**
+     * Metrics of the map just placed into, reusing the distance maps computed for placement.
+     */
+    public MazeMetrics measure(MapData map, MazeMetrics out) {
+        return analyzer.measureWithLastDistances(map, out, length);
+    }
+
+    private int placeAll(byte code, int count, Rules rules, RandomXS128 random) {
+        int placed = 0;
+        for (int i = 0; i < count; i++) {
+            for (int attempt = 0; attempt < rules.attemptsPerItem; attempt++) {
+                int tile = reachable[random.nextInt(reachableCount)];
+                if (accepts(code, tile, rules)) {
+                    int x = tile % map.width;
+                    int y = tile / map.width;
+                    map.codes[tile] = code;
+                    mark(x, y, rules.spacing);
+                    placed++;
+                    break;
+                }
+            }
+        }
+        return placed;
+    }
+
+    private boolean accepts(byte code, int tile, Rules rules) {
+        if (map.codes[tile] != MapData.NONE || (occupied[tile >>> 6] & (1L << tile)) != 0) return false;
+        int detour = fromEntry[tile] + fromExit[tile] - length;
+        switch (code) {
+            case MapData.KEY:
+                return detour / 2 >= rules.minKeyDetour;
+            case MapData.LASER:
+                return detour > 0 && fromEntry[tile] >= rules.minHazardDistance;
+            case MapData.TRAP:
+            case MapData.ENEMY:
+                return (rules.hazardsOnPath || detour > 0) && fromEntry[tile] >= rules.minHazardDistance;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Mark the square of the given radius around a tile as taken.
+     */
+    private void mark(int x, int y, int radius) {
+        int width = map.width;
+        int x0 = Math.max(0, x - radius);
+        int x1 = Math.min(width - 1, x + radius);
+        int y0 = Math.max(0, y - radius);
+        int y1 = Math.min(map.height - 1, y + radius);
+        for (int ty = y0; ty <= y1; ty++) {
+            for (int tile = ty * width + x0, end = ty * width + x1; tile <= end; tile++) {
+                occupied[tile >>> 6] |= 1L << tile;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package Maze.Runner.world;
+
+/**
+ * Wanted difficulty of a generated level. Each metric is compared as a relative error to its
+ * target and weighted; a negative target leaves that metric out. Lower scores are closer.
+ */
+public class DifficultyTarget {
+
+    public int solutionLength = -1;
+    public float deadEndRatio = -1;
+    public float branchingFactor = -1;
+    public float hazardDistance = -1;
+
+    public float solutionLengthWeight = 1;
+    public float deadEndRatioWeight = 1;
+    public float branchingFactorWeight = 1;
+    public float hazardDistanceWeight = 1;
+
+    /**
+     * Distance of a map's metrics from this target; infinite if the exit cannot be reached.
+     */
+    public float score(MazeMetrics metrics) {
+        if (!metrics.isSolvable()) return Float.POSITIVE_INFINITY;
+        float score = 0;
+        if (solutionLength >= 0) {
+            score += solutionLengthWeight * error(metrics.solutionLength, solutionLength);
+        }
+        if (deadEndRatio >= 0) {
+            score += deadEndRatioWeight * error(metrics.deadEndRatio, deadEndRatio);
+        }
+        if (branchingFactor >= 0) {
+            score += branchingFactorWeight * error(metrics.branchingFactor, branchingFactor);
+        }
+        if (hazardDistance >= 0 && metrics.hazards > 0) {
+            score += hazardDistanceWeight * error(metrics.hazardDistance, hazardDistance);
+        }
+        return score;
+    }
+
+    private static float error(float actual, float target) {
+        return Math.abs(actual - target) / Math.max(target, 1e-3f);
+    }
+}
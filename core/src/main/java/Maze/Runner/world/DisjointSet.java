@@ -0,0 +1,51 @@
+package Maze.Runner.world;
+
+/**
+ * Union-find over int ids 0..size-1 in primitive arrays: path halving plus union by rank,
+ * so any sequence of operations runs in near-constant time per call.
+ */
+public class DisjointSet {
+
+    private final int[] parent;
+    private final byte[] rank;
+
+    public DisjointSet(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+    }
+
+    public int find(int id) {
+        while (parent[id] != id) {
+            parent[id] = parent[parent[id]];
+            id = parent[id];
+        }
+        return id;
+    }
+
+    /**
+     * Merge the sets of a and b.
+     *
+     * @return false if they already were in the same set
+     */
+    public boolean union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) return false;
+        if (rank[ra] < rank[rb]) {
+            parent[ra] = rb;
+        } else if (rank[ra] > rank[rb]) {
+            parent[rb] = ra;
+        } else {
+            parent[rb] = ra;
+            rank[ra]++;
+        }
+        return true;
+    }
+
+    public int size() {
+        return parent.length;
+    }
+}
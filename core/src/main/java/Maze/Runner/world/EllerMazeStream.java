@@ -0,0 +1,181 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.Arrays;
+
+/**
+ * Endless perfect maze produced one row at a time with Eller's algorithm.
+ * Only the set label of each cell in the current row is kept, so memory is O(width) however
+ * many rows are generated. Sets are merged through a per-row union-find over the labels, which
+ * keeps every row O(width) instead of relabelling whole sets on each join.
+ * Rows come out as tiles, bottom to top, packed like {@link WallBitmap} rows (bit set = wall):
+ * a border row first, then for every cell row the row through the cells and the row of
+ * passages above it. Not thread-safe.
+ */
+public class EllerMazeStream {
+
+    private final int cellsWide;
+    private final int tileWidth;
+    private final int wordsPerRow;
+    private final long lastWordMask;
+    private final RandomXS128 random;
+
+    private final int[] sets;       // set label per cell of the current row, labels < cellsWide
+    private final int[] parent;     // union-find over labels, reset every row
+    private final int[] counts;     // cells per set still to decide in the vertical pass
+    private final long[] hasDown;   // per label: set already opened a passage upwards
+    private final long[] used;      // per label: carried into the next row
+    private final long[] cellRow;
+    private final long[] passageRow;
+
+    private long rowsEmitted;
+    private boolean passagePending;
+    private boolean lastRowPending;  // the pending passage row belongs to the joining row
+    private boolean finishing;
+    private boolean finished;
+
+    public EllerMazeStream(int cellsWide, RandomXS128 random) {
+        if (cellsWide < 1) {
+            throw new IllegalArgumentException("Maze needs at least one cell: " + cellsWide);
+        }
+        this.cellsWide = cellsWide;
+        this.tileWidth = ProceduralMazeGenerator.tiles(cellsWide);
+        this.wordsPerRow = (tileWidth + 63) >>> 6;
+        int tail = tileWidth & 63;
+        this.lastWordMask = tail == 0 ? -1L : -1L >>> (64 - tail);
+        this.random = random;
+
+        int labelWords = (cellsWide + 63) >>> 6;
+        sets = new int[cellsWide];
+        parent = new int[cellsWide];
+        counts = new int[cellsWide];
+        hasDown = new long[labelWords];
+        used = new long[labelWords];
+        cellRow = new long[wordsPerRow];
+        passageRow = new long[wordsPerRow];
+        for (int i = 0; i < cellsWide; i++) {
+            sets[i] = i;
+        }
+    }
+
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    public int getWordsPerRow() {
+        return wordsPerRow;
+    }
+
+    /**
+     * Tile rows produced so far; the next row has this index.
+     */
+    public long getRowsEmitted() {
+        return rowsEmitted;
+    }
+
+    /**
+     * Close the maze: the next cell row (after a pending passage row) joins all remaining sets
+     * and is followed by the top border.
+     */
+    public void finish() {
+        finishing = true;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Write the next tile row into {@code out} (at least {@link #getWordsPerRow()} longs).
+     *
+     * @return false once the top border of a finished maze has been written
+     */
+    public boolean nextRow(long[] out) {
+        if (finished) return false;
+        if (rowsEmitted == 0) {
+            fillWalls(out);
+        } else if (passagePending) {
+            System.arraycopy(passageRow, 0, out, 0, wordsPerRow);
+            passagePending = false;
+            if (lastRowPending) finished = true;
+        } else {
+            // finish() may come while a passage row is pending; that row keeps its upward
+            // openings, so the joining row has to follow it
+            lastRowPending = finishing;
+            generateCellRow(finishing);
+            System.arraycopy(cellRow, 0, out, 0, wordsPerRow);
+            passagePending = true;
+        }
+        rowsEmitted++;
+        return true;
+    }
+
+    private void generateCellRow(boolean last) {
+        fillWalls(cellRow);
+        for (int cx = 0; cx < cellsWide; cx++) {
+            open(cellRow, 2 * cx + 1);
+            parent[cx] = cx;
+        }
+
+        // Horizontal pass: randomly join neighbours in different sets (all of them on the last row)
+        for (int cx = 0; cx + 1 < cellsWide; cx++) {
+            int a = find(sets[cx]);
+            int b = find(sets[cx + 1]);
+            if (a != b && (last || random.nextBoolean())) {
+                parent[a] = b;
+                open(cellRow, 2 * cx + 2);
+            }
+        }
+        Arrays.fill(counts, 0);
+        for (int cx = 0; cx < cellsWide; cx++) {
+            int set = find(sets[cx]);
+            sets[cx] = set;
+            counts[set]++;
+        }
+
+        fillWalls(passageRow);
+        if (last) return;
+
+        // Vertical pass: every set continues upwards through at least one cell
+        Arrays.fill(hasDown, 0L);
+        Arrays.fill(used, 0L);
+        for (int cx = 0; cx < cellsWide; cx++) {
+            int set = sets[cx];
+            boolean lastOfSet = --counts[set] == 0;
+            boolean connected = (hasDown[set >>> 6] & (1L << set)) != 0;
+            if (random.nextBoolean() || (lastOfSet && !connected)) {
+                hasDown[set >>> 6] |= 1L << set;
+                used[set >>> 6] |= 1L << set;
+                open(passageRow, 2 * cx + 1);
+            } else {
+                sets[cx] = -1;
+            }
+        }
+
+        // Cells without a passage below start new sets, labelled with the unused labels
+        int label = 0;
+        for (int cx = 0; cx < cellsWide; cx++) {
+            if (sets[cx] >= 0) continue;
+            while ((used[label >>> 6] & (1L << label)) != 0) label++;
+            sets[cx] = label++;
+        }
+    }
+
+    private int find(int label) {
+        while (parent[label] != label) {
+            parent[label] = parent[parent[label]];
+            label = parent[label];
+        }
+        return label;
+    }
+
+    private void fillWalls(long[] row) {
+        Arrays.fill(row, 0, wordsPerRow - 1, -1L);
+        row[wordsPerRow - 1] = lastWordMask;
+    }
+
+    private static void open(long[] row, int x) {
+        row[x >>> 6] &= ~(1L << x);
+    }
+}
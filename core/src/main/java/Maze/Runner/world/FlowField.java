@@ -0,0 +1,301 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.PathGuide;
+import Maze.Runner.utils.Direction;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Shared BFS distance field (Dijkstra map) towards one target tile, usually the player.
+ * Every chaser reads its next step from the field in O(1) instead of running its own search.
+ * When the target steps to a neighbouring tile the field is updated in place: the new tile is
+ * seeded one below the old one and a frontier lowers only the cells that get closer to it, so
+ * every cell keeps a lower neighbour leading to the target at all times. Those values can drift
+ * above the true distance, so a full rebuild on a back buffer follows every
+ * {@link #MOVES_PER_REBUILD} moves (and on jumps or wall changes); the moves made meanwhile
+ * are replayed when it is swapped in. Both kinds of work share a per-frame time budget.
+ */
+public class FlowField implements MazeListener, PathGuide {
+
+    public static final int UNREACHED = Integer.MAX_VALUE;
+
+    // Incremental moves before the field is rebuilt exactly
+    public static final int MOVES_PER_REBUILD = 16;
+
+    // How many cells are expanded (or cleared, in 1/64ths) between clock checks
+    private static final int CLOCK_CHECK_INTERVAL = 1024;
+
+    private final Maze maze;
+    private final WallBitmap walls;
+    private final int width;
+    private final int height;
+    private final int size;
+    private int[] distances;
+    private int[] building;
+
+    // Full rebuild of the back buffer
+    private final int[] queue;
+    private int head;
+    private int tail;
+    private int cleared;                 // back buffer cells reset to UNREACHED so far
+    private int rebuildTarget = -1;
+    private final IntArray movesDuringRebuild = new IntArray();
+
+    // In-place relaxation of the front buffer, a ring so new seeds can join a running frontier
+    private final int[] frontier;
+    private int frontierHead;
+    private int frontierSize;
+
+    private int target = -1;
+    private int movesSinceRebuild;
+    private boolean rebuilding;
+    private boolean hasField;
+    private long lastRebuildNanos;
+    private long rebuildStartNanos;
+
+    public FlowField(Maze maze) {
+        this.maze = maze;
+        this.walls = maze.getWallBitmap();
+        this.width = maze.getWidth();
+        this.height = maze.getHeight();
+        this.size = width * height;
+        this.queue = new int[size];
+        this.frontier = new int[size];
+        this.distances = new int[size];
+        this.building = new int[size];
+        maze.addListener(this);
+    }
+
+    /**
+     * Point the field at a tile. A step to a neighbouring tile updates the current field in
+     * place; anything else starts a rebuild. Nothing happens if the tile did not change.
+     */
+    public void setTarget(int tileX, int tileY) {
+        if (!maze.isInside(tileX, tileY)) return;
+        int next = tileY * width + tileX;
+        if (next == target) return;
+        int previous = target;
+        target = next;
+        if (walls.get(tileX, tileY) || !isNeighbour(previous, next)) {
+            startRebuild();
+            return;
+        }
+        // A running rebuild is kept; the moves made meanwhile are replayed on its result
+        if (rebuilding) movesDuringRebuild.add(next);
+        if (hasField && distances[previous] != UNREACHED) {
+            seed(distances, previous, next);
+        } else if (!rebuilding) {
+            startRebuild();
+            return;
+        }
+        if (++movesSinceRebuild >= MOVES_PER_REBUILD && !rebuilding) startRebuild();
+    }
+
+    private boolean isNeighbour(int a, int b) {
+        if (a < 0) return false;
+        int d = Math.abs(a - b);
+        return d == width || (d == 1 && a / width == b / width);
+    }
+
+    /**
+     * Give the new target a value below its neighbour, the previous target, and queue it.
+     */
+    private void seed(int[] dist, int previous, int next) {
+        if (frontierSize == size) {
+            // Frontier full of stale seeds; an exact rebuild is cheaper than keeping up
+            startRebuild();
+            return;
+        }
+        dist[next] = dist[previous] - 1;
+        frontier[(frontierHead + frontierSize++) % size] = next;
+    }
+
+    private void startRebuild() {
+        rebuilding = true;
+        rebuildTarget = target;
+        movesDuringRebuild.clear();
+        movesSinceRebuild = 0;
+        head = 0;
+        tail = 0;
+        cleared = 0;
+        rebuildStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Continue pending work for at most {@code budgetNanos}; call once per frame.
+     *
+     * @return true when the field is up to date
+     */
+    public boolean update(long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        if (!relax(deadline)) return false;
+        if (!rebuilding) return true;
+        if (!rebuild(deadline)) return false;
+
+        int[] dist = building;
+        building = distances;
+        distances = dist;
+        rebuilding = false;
+        hasField = true;
+        lastRebuildNanos = System.nanoTime() - rebuildStartNanos;
+        // The frontier worked on the old buffer; replay the moves made since on the new one
+        frontierSize = 0;
+        int previous = rebuildTarget;
+        for (int i = 0; i < movesDuringRebuild.size && distances[previous] != UNREACHED; i++) {
+            int next = movesDuringRebuild.get(i);
+            seed(distances, previous, next);
+            previous = next;
+        }
+        movesSinceRebuild = movesDuringRebuild.size;
+        movesDuringRebuild.clear();
+        return relax(deadline);
+    }
+
+    /**
+     * Lower cells reached from the seeded frontier; each keeps the neighbour it was lowered from.
+     */
+    private boolean relax(long deadline) {
+        int[] dist = distances;
+        int expanded = 0;
+        while (frontierSize > 0) {
+            int i = frontier[frontierHead];
+            frontierHead = frontierHead + 1 == size ? 0 : frontierHead + 1;
+            frontierSize--;
+            int x = i % width;
+            int y = i / width;
+            int next = dist[i] + 1;
+            if (y + 1 < height) lower(dist, i + width, x, y + 1, next);
+            if (y > 0) lower(dist, i - width, x, y - 1, next);
+            if (x > 0) lower(dist, i - 1, x - 1, y, next);
+            if (x + 1 < width) lower(dist, i + 1, x + 1, y, next);
+
+            if (++expanded == CLOCK_CHECK_INTERVAL) {
+                expanded = 0;
+                if (System.nanoTime() - deadline > 0) return false;
+            }
+        }
+        return true;
+    }
+
+    private void lower(int[] dist, int i, int x, int y, int value) {
+        if (dist[i] <= value || walls.get(x, y)) return;
+        if (frontierSize == size) return;   // only stale duplicates fill the ring; the next rebuild fixes it
+        dist[i] = value;
+        frontier[(frontierHead + frontierSize++) % size] = i;
+    }
+
+    private boolean rebuild(long deadline) {
+        int[] dist = building;
+        // Reset the back buffer in chunks so a large field does not blow the frame budget
+        while (cleared < size) {
+            int end = Math.min(size, cleared + CLOCK_CHECK_INTERVAL * 64);
+            Arrays.fill(dist, cleared, end, UNREACHED);
+            cleared = end;
+            if (cleared == size) {
+                int x = rebuildTarget % width;
+                int y = rebuildTarget / width;
+                if (!walls.get(x, y)) {
+                    dist[rebuildTarget] = 0;
+                    queue[tail++] = rebuildTarget;
+                }
+            } else if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+        }
+
+        int expanded = 0;
+        while (head < tail) {
+            int i = queue[head++];
+            int x = i % width;
+            int y = i / width;
+            int next = dist[i] + 1;
+            if (y + 1 < height) visit(dist, i + width, x, y + 1, next);
+            if (y > 0) visit(dist, i - width, x, y - 1, next);
+            if (x > 0) visit(dist, i - 1, x - 1, y, next);
+            if (x + 1 < width) visit(dist, i + 1, x + 1, y, next);
+
+            if (++expanded == CLOCK_CHECK_INTERVAL) {
+                expanded = 0;
+                if (System.nanoTime() - deadline > 0) return false;
+            }
+        }
+        return true;
+    }
+
+    private void visit(int[] dist, int i, int x, int y, int distance) {
+        if (dist[i] != UNREACHED || walls.get(x, y)) return;
+        dist[i] = distance;
+        queue[tail++] = i;
+    }
+
+    /**
+     * Finish any pending work right away.
+     */
+    public void rebuildNow() {
+        while (!update(Long.MAX_VALUE / 2)) {
+            // keeps going until done
+        }
+    }
+
+    /**
+     * Steps from (tileX, tileY) to the target along the field, or {@link #UNREACHED}.
+     * Exact right after a rebuild, an upper bound in between.
+     */
+    public int distanceAt(int tileX, int tileY) {
+        if (!hasField || !maze.isInside(tileX, tileY)) return UNREACHED;
+        int d = distances[tileY * width + tileX];
+        int t = distances[target];
+        if (d == UNREACHED || t == UNREACHED) return UNREACHED;
+        return d - t;
+    }
+
+    @Override
+    public Direction nextStep(int tileX, int tileY) {
+        if (!hasField || !maze.isInside(tileX, tileY)) return Direction.NONE;
+        int i = tileY * width + tileX;
+        int best = distances[i];
+        if (best == UNREACHED || i == target) return Direction.NONE;
+        Direction step = Direction.NONE;
+        if (tileY + 1 < height && distances[i + width] < best) {
+            best = distances[i + width];
+            step = Direction.UP;
+        }
+        if (tileY > 0 && distances[i - width] < best) {
+            best = distances[i - width];
+            step = Direction.DOWN;
+        }
+        if (tileX > 0 && distances[i - 1] < best) {
+            best = distances[i - 1];
+            step = Direction.LEFT;
+        }
+        if (tileX + 1 < width && distances[i + 1] < best) {
+            step = Direction.RIGHT;
+        }
+        return step;
+    }
+
+    @Override
+    public void onTileChanged(int x, int y, byte oldKind, byte newKind) {
+        boolean wasWall = oldKind == TileKind.WALL;
+        if (wasWall != (newKind == TileKind.WALL) && target >= 0) {
+            frontierSize = 0;
+            startRebuild();
+        }
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    /**
+     * Wall-clock time from the start to the end of the last completed rebuild, across frames.
+     */
+    public long getLastRebuildNanos() {
+        return lastRebuildNanos;
+    }
+
+    public void dispose() {
+        maze.removeListener(this);
+    }
+}
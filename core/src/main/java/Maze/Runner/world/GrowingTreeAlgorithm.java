@@ -0,0 +1,54 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.Arrays;
+
+/**
+ * Growing tree: keeps a list of active cells and extends one of them per step. Picking the
+ * newest cell behaves like the backtracker, picking a random one like Prim's algorithm;
+ * {@code newestBias} mixes the two. Finished cells are swap-removed, so every step is O(1).
+ */
+public class GrowingTreeAlgorithm implements MazeAlgorithm {
+
+    private final float newestBias;
+
+    /**
+     * @param newestBias chance of extending the newest active cell instead of a random one
+     */
+    public GrowingTreeAlgorithm(float newestBias) {
+        if (newestBias < 0 || newestBias > 1) {
+            throw new IllegalArgumentException("newestBias must be in [0, 1]: " + newestBias);
+        }
+        this.newestBias = newestBias;
+    }
+
+    @Override
+    public void carve(int cellsWide, int cellsHigh, RandomXS128 random, Carver out) {
+        int cells = cellsWide * cellsHigh;
+        long[] visited = new long[(cells + 63) >>> 6];
+        int[] active = new int[Math.min(cells, 1024)];
+        int[] options = new int[4];
+
+        int start = random.nextInt(cells);
+        visited[start >>> 6] |= 1L << start;
+        ProceduralMazeGenerator.openCell(out, cellsWide, start);
+        active[0] = start;
+        int size = 1;
+        while (size > 0) {
+            int i = random.nextFloat() < newestBias ? size - 1 : random.nextInt(size);
+            int cell = active[i];
+            int n = ProceduralMazeGenerator.unvisitedNeighbours(cell, cellsWide, cellsHigh, visited, options);
+            if (n == 0) {
+                active[i] = active[--size];
+                continue;
+            }
+            int next = options[n == 1 ? 0 : random.nextInt(n)];
+            visited[next >>> 6] |= 1L << next;
+            ProceduralMazeGenerator.openPassage(out, cellsWide, cell, next);
+            ProceduralMazeGenerator.openCell(out, cellsWide, next);
+            if (size == active.length) active = Arrays.copyOf(active, Math.min(cells, size * 2));
+            active[size++] = next;
+        }
+    }
+}
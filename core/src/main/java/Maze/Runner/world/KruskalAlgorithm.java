@@ -0,0 +1,47 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Randomized Kruskal: visits the walls between cells in random order and knocks down each one
+ * that separates two different components of a {@link DisjointSet}. Gives short, evenly spread
+ * dead ends. The edge list is shuffled lazily (one Fisher-Yates step per visited edge) and the
+ * loop stops once the tree is complete.
+ */
+public class KruskalAlgorithm implements MazeAlgorithm {
+
+    @Override
+    public void carve(int cellsWide, int cellsHigh, RandomXS128 random, Carver out) {
+        int cells = cellsWide * cellsHigh;
+        for (int cell = 0; cell < cells; cell++) {
+            ProceduralMazeGenerator.openCell(out, cellsWide, cell);
+        }
+
+        // Edge = cell << 1 | direction, 0 = to the right neighbour, 1 = to the one above
+        int[] edges = new int[(cellsWide - 1) * cellsHigh + cellsWide * (cellsHigh - 1)];
+        int count = 0;
+        for (int cy = 0; cy < cellsHigh; cy++) {
+            for (int cx = 0; cx < cellsWide; cx++) {
+                int cell = cy * cellsWide + cx;
+                if (cx + 1 < cellsWide) edges[count++] = cell << 1;
+                if (cy + 1 < cellsHigh) edges[count++] = (cell << 1) | 1;
+            }
+        }
+
+        DisjointSet sets = new DisjointSet(cells);
+        int joined = 0;
+        for (int i = 0; i < count && joined < cells - 1; i++) {
+            int j = i + random.nextInt(count - i);
+            int edge = edges[j];
+            edges[j] = edges[i];
+            edges[i] = edge;
+
+            int a = edge >>> 1;
+            int b = (edge & 1) == 0 ? a + 1 : a + cellsWide;
+            if (sets.union(a, b)) {
+                ProceduralMazeGenerator.openPassage(out, cellsWide, a, b);
+                joined++;
+            }
+        }
+    }
+}
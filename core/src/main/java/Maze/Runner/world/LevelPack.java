@@ -0,0 +1,249 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Many levels in one file (.mzp): a table of contents with per-level metadata, followed by
+ * one Deflate-compressed .mzb image per level. Opening a pack only reads the table, so level
+ * lists can be shown without decoding any level; {@link #read(String)} decompresses one block.
+ *
+ * Layout (big endian):
+ * <pre>
+ *  0  int    magic "MZP\0"
+ *  4  short  version
+ *  6  short  flags (reserved, 0)
+ *  8  int    level count
+ * 12  int    table length in bytes
+ * 16  ...    table, per level: id (short length + UTF-8), long offset, int compressed length,
+ *            int raw length, int width, int height, int par seconds, int key count
+ * ..  ...    compressed level blocks at their offsets
+ * </pre>
+ */
+public class LevelPack {
+
+    public static final String EXTENSION = ".mzp";
+    public static final int MAGIC = 0x4D5A5000;
+    public static final short VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+
+    /**
+     * Table entry of one level; readable without decoding the level.
+     */
+    public static class Entry {
+        public final String id;
+        public final int width;
+        public final int height;
+        public final int parSeconds;
+        public final int keyCount;
+        final long offset;
+        final int compressedLength;
+        final int rawLength;
+
+        Entry(String id, int width, int height, int parSeconds, int keyCount,
+              long offset, int compressedLength, int rawLength) {
+            this.id = id;
+            this.width = width;
+            this.height = height;
+            this.parSeconds = parSeconds;
+            this.keyCount = keyCount;
+            this.offset = offset;
+            this.compressedLength = compressedLength;
+            this.rawLength = rawLength;
+        }
+    }
+
+    private final ByteBuffer data;
+    private final Array<Entry> entries = new Array<>();
+    private final ObjectMap<String, Entry> byId = new ObjectMap<>();
+
+    private LevelPack(ByteBuffer data) throws IOException {
+        this.data = data;
+        readTable();
+    }
+
+    /**
+     * Memory-map a pack file; only the table is touched until levels are read.
+     */
+    public static LevelPack open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new LevelPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Pack from an in-memory image, e.g. a classpath asset.
+     */
+    public static LevelPack open(ByteBuffer data) throws IOException {
+        return new LevelPack(data.slice());
+    }
+
+    private void readTable() throws IOException {
+        if (data.remaining() < HEADER_BYTES || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a level pack");
+        }
+        short version = data.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported level pack version " + version);
+        }
+        int count = data.getInt(8);
+        int tableLength = data.getInt(12);
+        if (count < 0 || tableLength < 0 || HEADER_BYTES + tableLength > data.limit()) {
+            throw new IOException("Corrupt level pack header");
+        }
+
+        ByteBuffer table = data.duplicate();
+        table.position(HEADER_BYTES);
+        table.limit(HEADER_BYTES + tableLength);
+        for (int i = 0; i < count; i++) {
+            byte[] idBytes = new byte[table.getShort() & 0xFFFF];
+            table.get(idBytes);
+            String id = new String(idBytes, StandardCharsets.UTF_8);
+            long offset = table.getLong();
+            int compressedLength = table.getInt();
+            int rawLength = table.getInt();
+            int width = table.getInt();
+            int height = table.getInt();
+            int parSeconds = table.getInt();
+            int keyCount = table.getInt();
+            if (offset < HEADER_BYTES || compressedLength < 0 || offset + compressedLength > data.limit()) {
+                throw new IOException("Level " + id + " lies outside the pack");
+            }
+            Entry entry = new Entry(id, width, height, parSeconds, keyCount, offset, compressedLength, rawLength);
+            entries.add(entry);
+            byId.put(entry.id, entry);
+        }
+    }
+
+    public Array<Entry> getEntries() {
+        return entries;
+    }
+
+    public Entry getEntry(String id) {
+        return byId.get(id);
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    /**
+     * Decompress and decode one level. Safe to call from several threads.
+     */
+    public MapData read(String id) throws IOException {
+        Entry entry = byId.get(id);
+        if (entry == null) {
+            throw new IllegalArgumentException("No level '" + id + "' in pack");
+        }
+        byte[] compressed = new byte[entry.compressedLength];
+        ByteBuffer block = data.duplicate();
+        block.position((int) entry.offset);
+        block.get(compressed);
+
+        byte[] raw = new byte[entry.rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int n = inflater.inflate(raw);
+            if (n != raw.length || !inflater.finished()) {
+                throw new IOException("Truncated level block for " + id);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt level block for " + id, e);
+        } finally {
+            inflater.end();
+        }
+        return BinaryMapFormat.read(ByteBuffer.wrap(raw));
+    }
+
+    /**
+     * Collects levels and writes them as one pack.
+     */
+    public static class Writer {
+        private final Array<String> ids = new Array<>();
+        private final ObjectSet<String> used = new ObjectSet<>();
+        private final Array<byte[]> blocks = new Array<>();
+        private final Array<int[]> metadata = new Array<>();   // raw length, width, height, par, keys
+
+        public void add(String id, MapData map, int parSeconds) throws IOException {
+            if (!used.add(id)) {
+                throw new IllegalArgumentException("Duplicate level id " + id);
+            }
+            ByteArrayOutputStream image = new ByteArrayOutputStream();
+            BinaryMapFormat.write(map, image);
+            byte[] raw = image.toByteArray();
+
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 64);
+            try {
+                deflater.setInput(raw);
+                deflater.finish();
+                byte[] chunk = new byte[8192];
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(chunk);
+                    compressed.write(chunk, 0, n);
+                }
+            } finally {
+                deflater.end();
+            }
+
+            int keys = 0;
+            for (byte code : map.codes) {
+                if (code == MapData.KEY) keys++;
+            }
+            ids.add(id);
+            blocks.add(compressed.toByteArray());
+            metadata.add(new int[]{raw.length, map.width, map.height, parSeconds, keys});
+        }
+
+        public void write(OutputStream out) throws IOException {
+            ByteArrayOutputStream tableBytes = new ByteArrayOutputStream();
+            DataOutputStream table = new DataOutputStream(tableBytes);
+            int tableLength = 0;
+            for (String id : ids) {
+                tableLength += 2 + id.getBytes(StandardCharsets.UTF_8).length + 8 + 4 * 6;
+            }
+            long offset = HEADER_BYTES + tableLength;
+            for (int i = 0; i < ids.size; i++) {
+                byte[] id = ids.get(i).getBytes(StandardCharsets.UTF_8);
+                int[] meta = metadata.get(i);
+                table.writeShort(id.length);
+                table.write(id);
+                table.writeLong(offset);
+                table.writeInt(blocks.get(i).length);
+                table.writeInt(meta[0]);
+                table.writeInt(meta[1]);
+                table.writeInt(meta[2]);
+                table.writeInt(meta[3]);
+                table.writeInt(meta[4]);
+                offset += blocks.get(i).length;
+            }
+
+            DataOutputStream header = new DataOutputStream(out);
+            header.writeInt(MAGIC);
+            header.writeShort(VERSION);
+            header.writeShort(0);
+            header.writeInt(ids.size);
+            header.writeInt(tableLength);
+            tableBytes.writeTo(out);
+            for (byte[] block : blocks) {
+                out.write(block);
+            }
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package Maze.Runner.world;
+
+import Maze.Runner.utils.Constants;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the next levels of a run (survival, endless) generated and validated ahead of play.
+ * Worker threads produce levels in order into a bounded buffer: at most {@code depth} levels
+ * are ready or in progress, and a worker blocks until the game takes one. A level transition
+ * is then {@link #poll()} followed by {@link MazeLoader#build(MapData)} on the GL thread,
+ * instead of generating and validating on the spot. The factory is where a run's levels are
+ * shaped (size, algorithm, content), all off the GL thread. {@link #getMetrics()} reports the
+ * buffer depth and per-level generation times.
+ */
+public class LevelPregenerator implements Disposable {
+
+    private static final int MAX_PLACEMENT_ATTEMPTS = 8;
+
+    /**
+     * Creates the map of one level. Runs on worker threads, so it must be GL-free and thread-safe.
+     */
+    public interface LevelFactory {
+        MapData create(int level);
+    }
+
+    /**
+     * A generated level, validated and ready for {@link MazeLoader#build(MapData)}.
+     */
+    public static class PreparedLevel {
+        public final int level;
+        public final MapData map;
+        public final long generateNanos;
+        public final long validateNanos;
+
+        PreparedLevel(int level, MapData map, long generateNanos, long validateNanos) {
+            this.level = level;
+            this.map = map;
+            this.generateNanos = generateNanos;
+            this.validateNanos = validateNanos;
+        }
+    }
+
+    /**
+     * Snapshot of the buffer and timing counters.
+     */
+    public static class Metrics {
+        public int depth;
+        public int ready;           // generated levels waiting to be taken
+        public int failedWaiting;   // levels that failed and are not taken yet; not counted in ready
+        public int inProgress;
+        public int produced;
+        public int failed;
+        public int misses;          // polls that found the next level not ready yet
+        public float lastMillis;    // generation + validation of the latest level
+        public float averageMillis;
+        public float maxMillis;
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                "ready %d/%d (%d in progress, %d failed waiting), %d produced, %d failed, %d misses,"
+                    + " last %.1f ms, avg %.1f ms, max %.1f ms",
+                ready, depth, inProgress, failedWaiting, produced, failed, misses, lastMillis, averageMillis,
+                maxMillis);
+        }
+    }
+
+    private final LevelFactory factory;
+    private final int depth;
+    private final int levelCount;
+    private final ExecutorService workers;
+    private final Semaphore capacity;
+    private final AtomicInteger nextToProduce = new AtomicInteger();
+    private final AtomicInteger inProgress = new AtomicInteger();
+    private final IntMap<PreparedLevel> ready = new IntMap<>();
+    private final IntMap<Throwable> failures = new IntMap<>();
+    private int nextToTake;
+    private int produced;
+    private int failed;
+    private int misses;
+    private long totalNanos;
+    private long lastNanos;
+    private long maxNanos;
+    private volatile boolean stopped;
+
+    /**
+     * @param depth      levels kept ready ahead of the player
+     * @param levelCount levels in the run, e.g. {@link Constants#MAX_SURVIVAL_LEVELS}, or
+     *                   Integer.MAX_VALUE for endless play
+     * @param threads    worker threads
+     */
+    public LevelPregenerator(LevelFactory factory, int depth, int levelCount, int threads) {
+        if (depth < 1 || threads < 1) {
+            throw new IllegalArgumentException("Depth and thread count must be at least 1");
+        }
+        this.factory = factory;
+        this.depth = depth;
+        this.levelCount = levelCount;
+        this.capacity = new Semaphore(depth);
+        AtomicInteger threadIds = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "level-pregen-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        for (int i = 0; i < threads; i++) {
+            workers.execute(this::produce);
+        }
+    }
+
+    /**
+     * Survival run: {@link Constants#MAX_SURVIVAL_LEVELS} perfect mazes growing from
+     * {@link Constants#MIN_ENDLESS_GRID_SIZE} to {@link Constants#MAX_ENDLESS_GRID_SIZE} cells,
+     * each level seeded from the run seed so a run can be replayed. A {@link ContentPlacer}
+     * adds a key off the solution path and more traps, enemies and lasers every level.
+     */
+    public static LevelFactory survival(long seed) {
+        ThreadLocal<ContentPlacer> placers = ThreadLocal.withInitial(ContentPlacer::new);
+        return level -> {
+            int steps = Math.max(1, Constants.MAX_SURVIVAL_LEVELS - 1);
+            int cells = Constants.MIN_ENDLESS_GRID_SIZE
+                + (Constants.MAX_ENDLESS_GRID_SIZE - Constants.MIN_ENDLESS_GRID_SIZE) * Math.min(level, steps) / steps;
+            ContentPlacer.Rules rules = new ContentPlacer.Rules();
+            rules.minKeyDetour = 1;
+            rules.minHazardDistance = 3;
+            rules.spacing = 1;
+            rules.traps = 1 + level;
+            rules.enemies = level / 2 + 1;
+            rules.lasers = level / 2;
+            rules.hearts = 1;
+            long levelSeed = seed + level * 0x9E3779B97F4A7C15L;
+            ProceduralMazeGenerator generator = new ProceduralMazeGenerator(ProceduralMazeGenerator.BACKTRACKER, levelSeed);
+            RandomXS128 random = new RandomXS128(levelSeed ^ 0x5DEECE66DL);
+            // A maze whose solution path leaves no room for the key is replaced by the next one
+            for (int attempt = 1; ; attempt++) {
+                MapData map = generator.generateMap(cells, cells);
+                try {
+                    placers.get().place(map, rules, random);
+                    return map;
+                } catch (RuntimeException e) {
+                    if (attempt == MAX_PLACEMENT_ATTEMPTS) throw e;
+                }
+            }
+        };
+    }
+
+    private void produce() {
+        ReachabilityValidator validator = new ReachabilityValidator();
+        try {
+            while (!stopped) {
+                capacity.acquire();
+                int level = nextToProduce.getAndIncrement();
+                if (level >= levelCount || stopped) {
+                    capacity.release();
+                    return;
+                }
+                inProgress.incrementAndGet();
+                try {
+                    long start = System.nanoTime();
+                    MapData map = factory.create(level);
+                    long generated = System.nanoTime();
+                    if (!map.validated) {
+                        validator.validate(map);
+                        map.validated = true;
+                    }
+                    long validated = System.nanoTime();
+                    finished(new PreparedLevel(level, map, generated - start, validated - generated), null);
+                } catch (Throwable e) {
+                    // Errors too (e.g. OutOfMemoryError): an unrecorded level would block take() forever
+                    finished(new PreparedLevel(level, null, 0, 0), e);
+                } finally {
+                    inProgress.decrementAndGet();
+                }
+            }
+        } catch (InterruptedException e) {
+            // disposed
+        }
+    }
+
+    private synchronized void finished(PreparedLevel prepared, Throwable failure) {
+        if (failure != null) {
+            failures.put(prepared.level, failure);
+            failed++;
+        } else {
+            long nanos = prepared.generateNanos + prepared.validateNanos;
+            produced++;
+            totalNanos += nanos;
+            lastNanos = nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+        ready.put(prepared.level, prepared);
+        notifyAll();
+    }
+
+    /**
+     * The next level if it is ready, otherwise null (the caller shows a loading state and polls again).
+     *
+     * @throws RuntimeException wrapping the factory's or validator's error if the level could not be made
+     */
+    public synchronized PreparedLevel poll() {
+        if (nextToTake >= levelCount) return null;
+        PreparedLevel prepared = ready.remove(nextToTake);
+        if (prepared == null) {
+            misses++;
+            return null;
+        }
+        return taken(prepared);
+    }
+
+    /**
+     * Wait for the next level; null when the run has no more levels.
+     *
+     * @throws RuntimeException if the level could not be made, as for {@link #poll()}
+     */
+    public synchronized PreparedLevel take() throws InterruptedException {
+        if (nextToTake >= levelCount) return null;
+        PreparedLevel prepared;
+        while ((prepared = ready.remove(nextToTake)) == null) {
+            if (stopped) return null;
+            wait();
+        }
+        return taken(prepared);
+    }
+
+    private PreparedLevel taken(PreparedLevel prepared) {
+        nextToTake++;
+        capacity.release();
+        Throwable failure = failures.remove(prepared.level);
+        if (failure != null) {
+            throw new RuntimeException("Level " + prepared.level + " could not be generated", failure);
+        }
+        return prepared;
+    }
+
+    /**
+     * Index of the level the next poll or take returns.
+     */
+    public synchronized int getNextLevel() {
+        return nextToTake;
+    }
+
+    public synchronized Metrics getMetrics() {
+        Metrics metrics = new Metrics();
+        metrics.depth = depth;
+        metrics.ready = ready.size - failures.size;
+        metrics.failedWaiting = failures.size;
+        metrics.inProgress = inProgress.get();
+        metrics.produced = produced;
+        metrics.failed = failed;
+        metrics.misses = misses;
+        metrics.lastMillis = lastNanos / 1e6f;
+        metrics.averageMillis = produced == 0 ? 0 : totalNanos / 1e6f / produced;
+        metrics.maxMillis = maxNanos / 1e6f;
+        return metrics;
+    }
+
+    @Override
+    public void dispose() {
+        stopped = true;
+        workers.shutdownNow();
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package Maze.Runner.world;
+
+/**
+ * Callbacks of an {@link AsyncLevelLoader} request. All methods are called on the GL thread.
+ */
+public interface LoadListener {
+
+    /**
+     * @param progress 0..1
+     */
+    void onProgress(String mapPath, float progress);
+
+    void onLoaded(String mapPath, MazeLoader.MazeLoadResult result);
+
+    void onFailed(String mapPath, RuntimeException error);
+}
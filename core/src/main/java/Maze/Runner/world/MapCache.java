@@ -0,0 +1,144 @@
+package Maze.Runner.world;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * On-disk cache of parsed and validated maps, keyed by a hash of the source file's bytes.
+ * Entries are .mzb snapshots with the validated flag set, so a hit is one memory-mapped read
+ * with no parsing or flood fill. Recency is the file's modification time, refreshed on every hit;
+ * when the directory grows past its byte limit the least recently used entries are deleted.
+ */
+public class MapCache {
+
+    private final Path directory;
+    private final long maxBytes;
+    private int hits;
+    private int misses;
+
+    public MapCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Cache key of a map file's content. Includes the snapshot format version, so a format
+     * change never serves stale entries.
+     */
+    public static String key(byte[] source) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-1 not available", e);
+        }
+        byte[] hash = digest.digest(source);
+        StringBuilder key = new StringBuilder(hash.length * 2 + 4);
+        key.append('v').append(BinaryMapFormat.VERSION).append('-');
+        for (byte b : hash) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    /**
+     * The cached map for a key, or null on a miss. Unreadable entries are dropped.
+     */
+    public synchronized MapData get(String key) {
+        Path entry = entryPath(key);
+        if (!Files.isRegularFile(entry)) {
+            misses++;
+            return null;
+        }
+        try {
+            MapData map = BinaryMapFormat.readMapped(entry);
+            // put() only stores validated maps, so entries written by this cache are trusted
+            map.validated = true;
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            hits++;
+            return map;
+        } catch (IOException e) {
+            deleteQuietly(entry);
+            misses++;
+            return null;
+        }
+    }
+
+    /**
+     * Store a validated map. Cache failures are not fatal; the map just stays uncached.
+     */
+    public synchronized void put(String key, MapData map) {
+        if (!map.validated) {
+            throw new IllegalArgumentException("Only validated maps can be cached");
+        }
+        Path entry = entryPath(key);
+        Path temp = directory.resolve(key + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                BinaryMapFormat.write(map, out);
+            }
+            // Readers never see a half-written entry
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evict();
+        } catch (IOException e) {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Delete least recently used entries until the cache fits its byte limit.
+     */
+    private void evict() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        Map<Path, FileTime> lastUsed = new HashMap<>();
+        long total = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + BinaryMapFormat.EXTENSION)) {
+            for (Path file : files) {
+                entries.add(file);
+                lastUsed.put(file, Files.getLastModifiedTime(file));
+                total += Files.size(file);
+            }
+        }
+        if (total <= maxBytes) return;
+
+        entries.sort(Comparator.comparing(lastUsed::get));
+        for (int i = 0; i < entries.size() && total > maxBytes; i++) {
+            Path oldest = entries.get(i);
+            long size = Files.size(oldest);
+            if (Files.deleteIfExists(oldest)) total -= size;
+        }
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key + BinaryMapFormat.EXTENSION);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // next put or eviction retries
+        }
+    }
+
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    public synchronized int getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,100 @@
+package Maze.Runner.world;
+
+import java.util.Arrays;
+
+/**
+ * Raw map layout as stored in map files: one tile code per cell, no textures or objects.
+ * Parsing into MapData needs no GL context, so it can run headless or on a worker thread;
+ * {@link MazeLoader} turns it into a {@link Maze}.
+ */
+public class MapData {
+
+    // Tile codes used by the map files
+    public static final byte NONE = -1;
+    public static final byte WALL = 0;
+    public static final byte ENTRY = 1;
+    public static final byte EXIT = 2;
+    public static final byte TRAP = 3;
+    public static final byte ENEMY = 4;
+    public static final byte KEY = 5;
+    public static final byte HEART = 6;
+    public static final byte LASER = 7;
+
+    public final int width;
+    public final int height;
+    public final byte[] codes;   // y * width + x
+
+    public int entryX = -1;
+    public int entryY = -1;
+    public int exitX = -1;
+    public int exitY = -1;
+
+    // Set once the layout passed ReachabilityValidator; MazeLoader skips validation then
+    public boolean validated;
+
+    public MapData(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.codes = new byte[width * height];
+        Arrays.fill(codes, NONE);
+    }
+
+    public byte get(int x, int y) {
+        return codes[y * width + x];
+    }
+
+    /**
+     * Set a cell's code; entry/exit positions follow the last written entry/exit cell.
+     */
+    public void set(int x, int y, byte code) {
+        codes[y * width + x] = code;
+        if (code == ENTRY) {
+            entryX = x;
+            entryY = y;
+        } else if (code == EXIT) {
+            exitX = x;
+            exitY = y;
+        }
+    }
+
+    public boolean hasEntry() {
+        return entryX >= 0;
+    }
+
+    public boolean hasExit() {
+        return exitX >= 0;
+    }
+
+    /**
+     * Wall bitmap of this layout, e.g. for reachability checks without building a Maze.
+     */
+    public WallBitmap toWallBitmap() {
+        return toWallBitmap(null);
+    }
+
+    /**
+     * Like {@link #toWallBitmap()}, but overwrites {@code reuse} when it has the same size.
+     */
+    public WallBitmap toWallBitmap(WallBitmap reuse) {
+        WallBitmap walls = reuse != null && reuse.getWidth() == width && reuse.getHeight() == height
+            ? reuse
+            : new WallBitmap(width, height);
+        // Assemble 64 cells at a time instead of setting bits one by one
+        int wordsPerRow = walls.getWordsPerRow();
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int w = 0; w < wordsPerRow; w++) {
+                int x0 = w << 6;
+                int x1 = Math.min(x0 + 64, width);
+                long bits = 0;
+                for (int x = x0; x < x1; x++) {
+                    // Branch-free (code == WALL), relies on WALL being 0
+                    int code = codes[row + x];
+                    bits |= (long) (((code | -code) >>> 31) ^ 1) << x;
+                }
+                walls.setWord(y, w, bits);
+            }
+        }
+        return walls;
+    }
+}
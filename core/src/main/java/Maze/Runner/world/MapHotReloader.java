@@ -0,0 +1,142 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.Entry;
+import Maze.Runner.gameobjects.Exit;
+import Maze.Runner.gameobjects.GameObject;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Dev tool: watches the running level's map file and applies edits to the live {@link Maze}.
+ * A watcher thread re-parses the file when it changes; {@link #update()} diffs it against the
+ * previous version on the GL thread and rewrites only the changed cells through
+ * {@link Maze#set}. Maze listeners then refresh just the affected render chunks, region labels
+ * and chase field. Untouched cells keep their objects, so player and enemy state survives.
+ */
+public class MapHotReloader implements Disposable {
+
+    // Editors often write a file in several steps; wait for them to finish
+    private static final long SETTLE_MILLIS = 100;
+
+    private final MazeLoader.MazeLoadResult level;
+    private final Path mapFile;
+    private final MazeLoader loader;
+    private final MazeLoader.MazeLoadResult textureRefs;
+    private final WatchService watcher;
+    private final Thread thread;
+    private final AtomicReference<MapData> pending = new AtomicReference<>();
+    private MapData current;
+
+    /**
+     * Start watching. Must be called on the GL thread, since it acquires the level textures.
+     */
+    public MapHotReloader(MazeLoader.MazeLoadResult level, Path mapFile, TextureRegistry textures) throws IOException {
+        this.level = level;
+        this.mapFile = mapFile.toAbsolutePath();
+        this.current = read(this.mapFile);
+        this.loader = new MazeLoader(textures);
+        this.textureRefs = loader.prepare();
+
+        this.watcher = FileSystems.getDefault().newWatchService();
+        this.mapFile.getParent().register(watcher,
+            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        this.thread = new Thread(this::watch, "map-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch() {
+        Path name = mapFile.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (name.equals(event.context())) changed = true;
+                }
+                key.reset();
+                if (!changed) continue;
+
+                Thread.sleep(SETTLE_MILLIS);
+                try {
+                    pending.set(read(mapFile));
+                } catch (IOException | RuntimeException e) {
+                    // Keep playing the last good version until the file parses again
+                    Gdx.app.error("MAZE", "Hot reload skipped: " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    private static MapData read(Path file) throws IOException {
+        if (file.getFileName().toString().endsWith(BinaryMapFormat.EXTENSION)) {
+            return BinaryMapFormat.readMapped(file);
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return PropertiesMapFormat.read(in);
+        }
+    }
+
+    /**
+     * Apply the latest edit, if any. Call once per frame on the GL thread.
+     *
+     * @return number of cells that changed
+     */
+    public int update() {
+        MapData next = pending.getAndSet(null);
+        if (next == null) return 0;
+        if (next.width != current.width || next.height != current.height) {
+            Gdx.app.error("MAZE", "Hot reload: map size changed to " + next.width + "x" + next.height
+                + ", restart the level to apply it");
+            return 0;
+        }
+
+        Maze maze = level.maze;
+        int changed = 0;
+        for (int y = 0; y < next.height; y++) {
+            int row = y * next.width;
+            for (int x = 0; x < next.width; x++) {
+                byte code = next.codes[row + x];
+                if (code == current.codes[row + x]) continue;
+                maze.set(x, y, loader.createObject(textureRefs, code, x, y));
+                changed++;
+            }
+        }
+        current = next;
+        GameObject entry = next.hasEntry() ? maze.get(next.entryX, next.entryY) : null;
+        GameObject exit = next.hasExit() ? maze.get(next.exitX, next.exitY) : null;
+        level.entry = entry instanceof Entry ? (Entry) entry : null;
+        level.exit = exit instanceof Exit ? (Exit) exit : null;
+
+        if (level.entry != null && level.exit != null && !level.regions.isReachable(level.entry, level.exit)) {
+            Gdx.app.error("MAZE", "Hot reload: exit is no longer reachable from entry");
+        }
+        Gdx.app.log("MAZE", "Hot reload: " + changed + " cell(s) changed in " + mapFile.getFileName());
+        return changed;
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            watcher.close();
+        } catch (IOException ignored) {
+            // thread exits either way
+        }
+        thread.interrupt();
+        textureRefs.dispose();
+    }
+}
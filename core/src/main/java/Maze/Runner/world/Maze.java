@@ -1,42 +1,238 @@
 package Maze.Runner.world;
 
 import Maze.Runner.gameobjects.GameObject;
-import Maze.Runner.gameobjects.Wall;
 import com.badlogic.gdx.utils.Array;
 
+import java.util.function.Consumer;
+
 
 /**
  * Holds the grid of tiles and objects.
+ * Cells live in 32x32 chunks that are materialised on first write; untouched
+ * all-empty / all-wall chunks are shared, so huge mazes only pay for what they use.
+ * Each chunk keeps a byte tile-kind per cell, so wall/trap/pickup/exit queries
+ * never look at the objects. Walls are additionally mirrored into a
+ * {@link WallBitmap} for word-at-a-time row queries.
+ * Objects are also kept in per-{@link ObjectCategory} lists, so per-frame code
+ * can visit just the entities that change instead of scanning the grid.
  */
 public class Maze {
 
+    /**
+     * Approximate heap usage of a maze's storage (not counting the GameObjects themselves).
+     */
+    public static class MemoryReport {
+        public int totalChunks;
+        public int materializedChunks;
+        public int chunksWithObjects;
+        public long chunkTableBytes;
+        public long chunkBytes;
+        public long wallBitmapBytes;
+
+        public long totalBytes() {
+            return chunkTableBytes + chunkBytes + wallBitmapBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "chunks " + materializedChunks + "/" + totalChunks
+                + " materialised (" + chunksWithObjects + " with objects), "
+                + (totalBytes() / 1024) + " KB total";
+        }
+    }
+
+    // Rough HotSpot sizes with compressed oops
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int OBJECT_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+
     private final int width;
     private final int height;
-    private final GameObject[][] grid;
+    private final int chunksX;
+    private final int chunksY;
+    private final MazeChunk[] chunks;
+    private final WallBitmap wallBits;
+    private final ObjectBucket[] buckets;
+    private final Array<MazeListener> listeners = new Array<>(MazeListener[]::new);
 
     public Maze(int width, int height) {
+        this(width, height, TileKind.EMPTY);
+    }
+
+    /**
+     * @param fill initial kind of every cell, {@link TileKind#EMPTY} or {@link TileKind#WALL}
+     */
+    public Maze(int width, int height, byte fill) {
         this.width = width;
         this.height = height;
-        this.grid = new GameObject[width][height];
+        this.chunksX = (width + MazeChunk.MASK) >> MazeChunk.SHIFT;
+        this.chunksY = (height + MazeChunk.MASK) >> MazeChunk.SHIFT;
+        this.chunks = new MazeChunk[chunksX * chunksY];
+        this.wallBits = new WallBitmap(width, height);
+        this.buckets = new ObjectBucket[ObjectCategory.count()];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ObjectBucket();
+        }
+
+        MazeChunk initial = MazeChunk.shared(fill);
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = initial;
+        }
+        if (fill == TileKind.WALL) wallBits.fill(true);
     }
 
     public void set(int x, int y, GameObject obj) {
-        grid[x][y] = obj;
+        checkInside(x, y);
+        byte kind = TileKind.of(obj);
+        int ci = chunkIndex(x, y);
+        MazeChunk chunk = chunks[ci];
+        int i = MazeChunk.index(x, y);
+        if (chunk.shared) {
+            if (obj == null && chunk.kinds[i] == kind) return;
+            chunk = chunk.materialize();
+            chunks[ci] = chunk;
+        }
+        if (chunk.objects == null) {
+            if (obj == null) {
+                writeKind(chunk, i, x, y, kind);
+                return;
+            }
+            chunk.objects = new GameObject[MazeChunk.CELLS];
+        }
+        GameObject old = chunk.objects[i];
+        if (old != obj) {
+            if (old != null) bucket(old).remove(old);
+            if (obj != null) bucket(obj).add(obj);
+        }
+        chunk.objects[i] = obj;
+        writeKind(chunk, i, x, y, kind);
+    }
+
+    /**
+     * Set a cell's tile kind without an object, e.g. for generated walls.
+     * Any object in the cell is removed.
+     */
+    public void setTileKind(int x, int y, byte kind) {
+        checkInside(x, y);
+        int ci = chunkIndex(x, y);
+        MazeChunk chunk = chunks[ci];
+        int i = MazeChunk.index(x, y);
+        if (chunk.shared) {
+            if (chunk.kinds[i] == kind) return;
+            chunk = chunk.materialize();
+            chunks[ci] = chunk;
+        }
+        if (chunk.objects != null && chunk.objects[i] != null) {
+            GameObject old = chunk.objects[i];
+            bucket(old).remove(old);
+            chunk.objects[i] = null;
+        }
+        writeKind(chunk, i, x, y, kind);
+    }
+
+    private void writeKind(MazeChunk chunk, int i, int x, int y, byte kind) {
+        byte oldKind = chunk.kinds[i];
+        chunk.kinds[i] = kind;
+        wallBits.set(x, y, kind == TileKind.WALL);
+        for (int l = 0; l < listeners.size; l++) {
+            listeners.items[l].onTileChanged(x, y, oldKind, kind);
+        }
+    }
+
+    public void addListener(MazeListener listener) {
+        if (!listeners.contains(listener, true)) listeners.add(listener);
+    }
+
+    public void removeListener(MazeListener listener) {
+        listeners.removeValue(listener, true);
     }
 
     public GameObject get(int x, int y) {
         if (!isInside(x, y)) return null;
-        return grid[x][y];
+        GameObject[] objects = chunks[chunkIndex(x, y)].objects;
+        return objects == null ? null : objects[MazeChunk.index(x, y)];
+    }
+
+    /**
+     * Tile kind at (x, y), or {@link TileKind#EMPTY} outside the maze.
+     */
+    public byte getTileKind(int x, int y) {
+        if (!isInside(x, y)) return TileKind.EMPTY;
+        return chunks[chunkIndex(x, y)].kinds[MazeChunk.index(x, y)];
     }
 
     public boolean isWall(int x, int y) {
-        return get(x, y) instanceof Wall;
+        return getTileKind(x, y) == TileKind.WALL;
+    }
+
+    public boolean isTrap(int x, int y) {
+        return getTileKind(x, y) == TileKind.TRAP;
+    }
+
+    public boolean isPickup(int x, int y) {
+        return TileKind.isPickup(getTileKind(x, y));
+    }
+
+    public boolean isExit(int x, int y) {
+        return getTileKind(x, y) == TileKind.EXIT;
     }
 
     public boolean isInside(int x, int y) {
         return x >= 0 && y >= 0 && x < width && y < height;
     }
 
+    // Chunks and wall rows are padded, so an out-of-range write would land in a neighbouring cell
+    private void checkInside(int x, int y) {
+        if (!isInside(x, y)) {
+            throw new IndexOutOfBoundsException("Cell " + x + "," + y + " outside " + width + "x" + height + " maze");
+        }
+    }
+
+    private int chunkIndex(int x, int y) {
+        return (y >> MazeChunk.SHIFT) * chunksX + (x >> MazeChunk.SHIFT);
+    }
+
+    /**
+     * Swap chunks that became uniform (all empty or all wall, no objects) back to the shared instances.
+     *
+     * @return number of chunks released
+     */
+    public int compact() {
+        int released = 0;
+        for (int i = 0; i < chunks.length; i++) {
+            MazeChunk chunk = chunks[i];
+            if (chunk.shared) continue;
+            MazeChunk replacement = chunk.sharedEquivalent();
+            if (replacement != null) {
+                chunks[i] = replacement;
+                released++;
+            }
+        }
+        return released;
+    }
+
+    public MemoryReport memoryReport() {
+        MemoryReport report = new MemoryReport();
+        report.totalChunks = chunks.length;
+        report.chunkTableBytes = ARRAY_HEADER_BYTES + (long) chunks.length * REFERENCE_BYTES;
+        for (MazeChunk chunk : chunks) {
+            if (chunk.shared) continue;
+            report.materializedChunks++;
+            report.chunkBytes += OBJECT_HEADER_BYTES + ARRAY_HEADER_BYTES + MazeChunk.CELLS;
+            if (chunk.objects != null) {
+                report.chunksWithObjects++;
+                report.chunkBytes += ARRAY_HEADER_BYTES + (long) MazeChunk.CELLS * REFERENCE_BYTES;
+            }
+        }
+        report.wallBitmapBytes = ARRAY_HEADER_BYTES
+            + (long) wallBits.getWordsPerRow() * height * Long.BYTES;
+        return report;
+    }
+
+    public WallBitmap getWallBitmap() {
+        return wallBits;
+    }
+
     public int getWidth() {
         return width;
     }
@@ -45,12 +241,52 @@ public class Maze {
         return height;
     }
 
+    private ObjectBucket bucket(GameObject obj) {
+        return buckets[ObjectCategory.of(obj).ordinal()];
+    }
+
+    /**
+     * Live list of one category; do not modify. Order is not stable across set() calls.
+     */
+    public Array<GameObject> getObjects(ObjectCategory category) {
+        return buckets[category.ordinal()].items;
+    }
+
+    public void forEach(ObjectCategory category, Consumer<? super GameObject> visitor) {
+        buckets[category.ordinal()].forEach(visitor);
+    }
+
+    public void forEachDynamic(Consumer<? super GameObject> visitor) {
+        forEach(ObjectCategory.DYNAMIC, visitor);
+    }
+
+    public void forEachAnimated(Consumer<? super GameObject> visitor) {
+        forEach(ObjectCategory.ANIMATED, visitor);
+    }
+
+    public void forEachPickup(Consumer<? super GameObject> visitor) {
+        forEach(ObjectCategory.PICKUP, visitor);
+    }
+
+    public void forEachWall(Consumer<? super GameObject> visitor) {
+        forEach(ObjectCategory.WALL, visitor);
+    }
+
+    /**
+     * Per-frame update; only touches dynamic and animated objects.
+     */
+    public void update(float deltaTime) {
+        buckets[ObjectCategory.DYNAMIC.ordinal()].update(deltaTime);
+        buckets[ObjectCategory.ANIMATED.ordinal()].update(deltaTime);
+    }
+
+    /**
+     * All objects in the maze. Allocates a new list; prefer the forEach visitors in per-frame code.
+     */
     public Iterable<GameObject> objects() {
         Array<GameObject> list = new Array<>();
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (grid[x][y] != null) list.add(grid[x][y]);
-            }
+        for (int i = 0; i < buckets.length; i++) {
+            list.addAll(buckets[i].items);
         }
         return list;
     }
@@ -0,0 +1,22 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * A perfect-maze algorithm for {@link ProceduralMazeGenerator}.
+ * Works on a grid of cells; cell (cx, cy) is tile (2cx + 1, 2cy + 1) and the wall between two
+ * neighbouring cells is the tile between them. Implementations start from all walls and open
+ * tiles through a {@link Carver}, must be iterative (no recursion) and may only draw randomness
+ * from the given generator, so a seed always yields the same maze.
+ */
+public interface MazeAlgorithm {
+
+    /**
+     * Receives every tile an algorithm opens.
+     */
+    interface Carver {
+        void open(int x, int y);
+    }
+
+    void carve(int cellsWide, int cellsHigh, RandomXS128 random, Carver out);
+}
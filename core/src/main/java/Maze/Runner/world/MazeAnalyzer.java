@@ -0,0 +1,164 @@
+package Maze.Runner.world;
+
+import java.util.Arrays;
+
+/**
+ * Computes {@link MazeMetrics} from map codes with two breadth-first searches, one from the
+ * entry and one from the exit, over primitive int arrays. A tile lies on the solution path
+ * when its two distances add up to the path length, and a hazard's distance to the path is
+ * (distance to entry + distance to exit - path length) / 2, which is exact in perfect mazes.
+ * Buffers are reused between calls; not thread-safe, use one per thread.
+ */
+public class MazeAnalyzer {
+
+    private int[] fromEntry = new int[0];
+    private int[] fromExit = new int[0];
+    private int[] queue = new int[0];
+    private int reachableCount;
+
+    public MazeMetrics measure(MapData map) {
+        return measure(map, new MazeMetrics());
+    }
+
+    public MazeMetrics measure(MapData map, MazeMetrics out) {
+        int length = map.hasEntry() && map.hasExit() ? computeDistances(map) : -1;
+        return collect(map, out, length);
+    }
+
+    /**
+     * Like {@link #measure(MapData, MazeMetrics)}, reusing the distance maps of the last
+     * {@link #computeDistances} call; the map's walls, entry and exit must not have changed since.
+     */
+    MazeMetrics measureWithLastDistances(MapData map, MazeMetrics out, int length) {
+        return collect(map, out, length);
+    }
+
+    private MazeMetrics collect(MapData map, MazeMetrics out, int length) {
+        int width = map.width;
+        int size = width * map.height;
+        out.openTiles = 0;
+        out.deadEnds = 0;
+        out.hazards = 0;
+        out.hazardsOnPath = 0;
+        out.solutionLength = -1;
+        out.deadEndRatio = 0;
+        out.branchingFactor = 0;
+        out.hazardDistance = 0;
+        if (!map.hasEntry() || !map.hasExit()) return out;
+
+        int entry = map.entryY * width + map.entryX;
+        int exit = map.exitY * width + map.exitX;
+        out.solutionLength = length;
+
+        byte[] codes = map.codes;
+        int sideOpenings = 0;
+        int pathTiles = 0;
+        long hazardDistanceSum = 0;
+        for (int i = 0, x = 0; i < size; i++, x = x + 1 == width ? 0 : x + 1) {
+            if (codes[i] == MapData.WALL) continue;
+            out.openTiles++;
+            int degree = degree(codes, width, i, x);
+            if (degree == 1 && i != entry && i != exit) out.deadEnds++;
+
+            int toEntry = fromEntry[i];
+            if (length < 0 || toEntry < 0) continue;
+            int detour = toEntry + fromExit[i] - length;
+            if (detour == 0) {
+                pathTiles++;
+                // Ends of the path have one path neighbour, inner tiles two
+                sideOpenings += degree - (i == entry || i == exit ? 1 : 2);
+            }
+            byte code = codes[i];
+            if (code == MapData.TRAP || code == MapData.ENEMY) {
+                out.hazards++;
+                if (detour == 0) out.hazardsOnPath++;
+                hazardDistanceSum += detour / 2;
+            }
+        }
+        if (out.openTiles > 0) out.deadEndRatio = out.deadEnds / (float) out.openTiles;
+        if (pathTiles > 0) out.branchingFactor = Math.max(0, sideOpenings) / (float) pathTiles;
+        if (out.hazards > 0) out.hazardDistance = hazardDistanceSum / (float) out.hazards;
+        return out;
+    }
+
+    /**
+     * Fill the distance maps from the entry and the exit of a map that has both.
+     * Afterwards {@link #reachable()} lists the tiles reached from the exit, nearest first.
+     *
+     * @return length of the shortest entry-to-exit path, -1 if the exit cannot be reached
+     */
+    int computeDistances(MapData map) {
+        int size = map.width * map.height;
+        if (fromEntry.length < size) {
+            fromEntry = new int[size];
+            fromExit = new int[size];
+            queue = new int[size];
+        }
+        distances(map, map.entryY * map.width + map.entryX, fromEntry);
+        reachableCount = distances(map, map.exitY * map.width + map.exitX, fromExit);
+        return fromEntry[map.exitY * map.width + map.exitX];
+    }
+
+    // Distance maps of the last computeDistances call, indexed y * width + x, -1 where unreachable
+    int[] entryDistances() {
+        return fromEntry;
+    }
+
+    int[] exitDistances() {
+        return fromExit;
+    }
+
+    // Tile indices; only the first reachableCount() entries are valid
+    int[] reachable() {
+        return queue;
+    }
+
+    int reachableCount() {
+        return reachableCount;
+    }
+
+    /**
+     * BFS distances from one tile, -1 for walls and unreachable tiles; returns tiles reached.
+     */
+    private int distances(MapData map, int start, int[] dist) {
+        int width = map.width;
+        int size = width * map.height;
+        byte[] codes = map.codes;
+        Arrays.fill(dist, 0, size, -1);
+        dist[start] = 0;
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int cell = queue[head++];
+            int next = dist[cell] + 1;
+            int x = cell % width;
+            if (x + 1 < width && codes[cell + 1] != MapData.WALL && dist[cell + 1] < 0) {
+                dist[cell + 1] = next;
+                queue[tail++] = cell + 1;
+            }
+            if (x > 0 && codes[cell - 1] != MapData.WALL && dist[cell - 1] < 0) {
+                dist[cell - 1] = next;
+                queue[tail++] = cell - 1;
+            }
+            if (cell + width < size && codes[cell + width] != MapData.WALL && dist[cell + width] < 0) {
+                dist[cell + width] = next;
+                queue[tail++] = cell + width;
+            }
+            if (cell >= width && codes[cell - width] != MapData.WALL && dist[cell - width] < 0) {
+                dist[cell - width] = next;
+                queue[tail++] = cell - width;
+            }
+        }
+        return tail;
+    }
+
+    private static int degree(byte[] codes, int width, int cell, int x) {
+        int degree = 0;
+        if (x + 1 < width && codes[cell + 1] != MapData.WALL) degree++;
+        if (x > 0 && codes[cell - 1] != MapData.WALL) degree++;
+        if (cell + width < codes.length && codes[cell + width] != MapData.WALL) degree++;
+        if (cell >= width && codes[cell - width] != MapData.WALL) degree++;
+        return degree;
+    }
+}
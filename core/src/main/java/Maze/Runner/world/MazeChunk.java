@@ -0,0 +1,73 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.GameObject;
+
+import java.util.Arrays;
+
+/**
+ * Fixed 32x32 block of maze cells.
+ * Uniform all-empty / all-wall chunks are shared and never written to;
+ * Maze swaps in a private copy on the first write.
+ */
+final class MazeChunk {
+
+    static final int SHIFT = 5;
+    static final int SIZE = 1 << SHIFT;
+    static final int MASK = SIZE - 1;
+    static final int CELLS = SIZE * SIZE;
+
+    static final MazeChunk EMPTY = new MazeChunk(TileKind.EMPTY, true);
+    static final MazeChunk WALLS = new MazeChunk(TileKind.WALL, true);
+
+    final byte[] kinds;
+    final boolean shared;
+
+    // Allocated on the first object write; tile-kind only chunks never need it
+    GameObject[] objects;
+
+    private MazeChunk(byte fill, boolean shared) {
+        this.kinds = new byte[CELLS];
+        this.shared = shared;
+        if (fill != TileKind.EMPTY) Arrays.fill(kinds, fill);
+    }
+
+    private MazeChunk(MazeChunk source) {
+        this.kinds = source.kinds.clone();
+        this.shared = false;
+    }
+
+    static MazeChunk shared(byte kind) {
+        if (kind == TileKind.EMPTY) return EMPTY;
+        if (kind == TileKind.WALL) return WALLS;
+        throw new IllegalArgumentException("No shared chunk for tile kind " + kind);
+    }
+
+    /**
+     * Writable copy of this chunk (itself if it is already private).
+     */
+    MazeChunk materialize() {
+        return shared ? new MazeChunk(this) : this;
+    }
+
+    static int index(int x, int y) {
+        return ((y & MASK) << SHIFT) | (x & MASK);
+    }
+
+    /**
+     * The shared chunk this one could be replaced by, or null if it holds objects or mixed kinds.
+     */
+    MazeChunk sharedEquivalent() {
+        if (shared) return this;
+        if (objects != null) {
+            for (GameObject obj : objects) {
+                if (obj != null) return null;
+            }
+        }
+        byte first = kinds[0];
+        if (first != TileKind.EMPTY && first != TileKind.WALL) return null;
+        for (int i = 1; i < CELLS; i++) {
+            if (kinds[i] != first) return null;
+        }
+        return shared(first);
+    }
+}
@@ -0,0 +1,10 @@
+package Maze.Runner.world;
+
+/**
+ * Notified after a cell of a {@link Maze} was written through set() or setTileKind().
+ * Lets derived data (render chunks, region labels, path caches) update only what changed.
+ */
+public interface MazeListener {
+
+    void onTileChanged(int x, int y, byte oldKind, byte newKind);
+}
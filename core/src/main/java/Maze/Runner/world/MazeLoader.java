@@ -1,21 +1,22 @@
 package Maze.Runner.world;
 
+import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectMap;
 import Maze.Runner.gameobjects.*;
-import Maze.Runner.utils.Constants;
-import com.mazegame.utils.GridPosition;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Properties;
-import java.util.Set;
-import java.util.Stack;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.IntConsumer;
 
 /**
- * Loads maze layout from Java .properties file.
- * Validates that exit is reachable from entry using DFS.
+ * Loads maze layout from a .properties or binary .mzb map file, or from a level pack.
+ * Validates that exit is reachable from entry, then labels connected regions once.
+ * With a {@link MapCache}, unchanged .properties maps skip parsing and validation.
  */
 public class MazeLoader {
 
@@ -23,170 +24,312 @@ public class MazeLoader {
         public Maze maze;
         public Entry entry;
         public Exit exit;
+        public RegionMap regions;
+
+        // Chase field for this maze, allocated off the GL thread by AsyncLevelLoader
+        FlowField chaseField;
+
+        // Texture references held by this level
+        TextureRegistry.Owner textures;
+
+        // Regions for the objects of this level, set on the GL thread by prepare()
+        TextureRegion wallTex;
+        TextureRegion floorTex;
+        TextureRegion entryTex;
+        TextureRegion exitTex;
+        TextureRegion trapTex;
+        TextureRegion patrolEnemyTex;
+        TextureRegion kamikazeTex;
+        TextureRegion keyTex;
+        TextureRegion heartTex;
+
+        /**
+         * Region for walls without an object of their own, held by this level's textures.
+         */
+        public TextureRegion getWallRegion() {
+            return wallTex;
+        }
+
+        /**
+         * Region drawn under every non-wall cell, held by this level's textures.
+         */
+        public TextureRegion getFloorRegion() {
+            return floorTex;
+        }
+
+        /**
+         * Shared path towards the player for this maze's chasers; created on first use if the
+         * level was not loaded through {@link AsyncLevelLoader}.
+         */
+        public FlowField getChaseField() {
+            if (chaseField == null) chaseField = new FlowField(maze);
+            return chaseField;
+        }
+
+        /**
+         * Release this level's texture references; shared textures stay resident for other levels.
+         */
+        public void dispose() {
+            if (chaseField != null) {
+                chaseField.dispose();
+                chaseField = null;
+            }
+            if (textures != null) textures.releaseAll();
+        }
+    }
+
+    // Texture paths; walls and traps share the spike texture
+    private static final String WALL_TEXTURE = "textures/obstacles/trap_spike.png";
+    private static final String FLOOR_TEXTURE = "textures/tiles/floor.png";
+    private static final String ENTRY_TEXTURE = "textures/characters/line_green.png";
+    private static final String EXIT_TEXTURE = "textures/obstacles/laser_grid.png";
+    private static final String TRAP_TEXTURE = "textures/obstacles/trap_spike.png";
+    private static final String PATROL_ENEMY_TEXTURE = "textures/obstacles/enemy_patrol.png";
+    private static final String KAMIKAZE_TEXTURE = "textures/obstacles/enemy_kamikaze.png";
+    private static final String KEY_TEXTURE = "textures/items/key.png";
+    private static final String HEART_TEXTURE = "textures/items/heart.png";
+
+    // Separates a pack file from a level id in map paths, e.g. "maps/levels.mzp#level1"
+    public static final char PACK_SEPARATOR = '#';
+
+    // Builds run on the GL thread and on loader workers; each thread validates with its own buffers
+    private static final ThreadLocal<ReachabilityValidator> VALIDATORS =
+        ThreadLocal.withInitial(ReachabilityValidator::new);
+
+    private final TextureRegistry textures;
+    private final MapCache cache;
+    private final ObjectMap<String, LevelPack> packs = new ObjectMap<>();
+
+    /**
+     * @param textures registry shared across loads, so restarting or switching levels
+     *                 reuses already uploaded textures
+     */
+    public MazeLoader(TextureRegistry textures) {
+        this(textures, null);
+    }
+
+    /**
+     * @param cache parsed-map cache for .properties maps, or null to always parse
+     */
+    public MazeLoader(TextureRegistry textures, MapCache cache) {
+        this.textures = textures;
+        this.cache = cache;
     }
 
     public MazeLoadResult load(String mapFilePath) {
+        return build(readMapData(mapFilePath));
+    }
+
+    /**
+     * Parse a map file without creating textures or objects.
+     * .mzb files are memory-mapped when they live on the file system.
+     * A path of the form {@code pack.mzp#levelId} reads one level out of a {@link LevelPack}.
+     */
+    public MapData readMapData(String mapFilePath) {
+        int hash = mapFilePath.indexOf(PACK_SEPARATOR);
+        if (hash > 0) {
+            return readMapData(openPack(mapFilePath.substring(0, hash)), mapFilePath.substring(hash + 1));
+        }
         FileHandle file = Gdx.files.internal(mapFilePath);
         if (!file.exists()) {
             throw new IllegalArgumentException("Map file not found: " + mapFilePath);
         }
 
-        Properties props = new Properties();
         try {
-            props.load(file.read());
+            if (mapFilePath.endsWith(BinaryMapFormat.EXTENSION)) {
+                if (file.type() != Files.FileType.Classpath && file.file().exists()) {
+                    return BinaryMapFormat.readMapped(file.file().toPath());
+                }
+                return BinaryMapFormat.read(ByteBuffer.wrap(file.readBytes()));
+            }
+            if (cache != null) {
+                return readCached(file.readBytes());
+            }
+            try (InputStream in = file.read()) {
+                return PropertiesMapFormat.read(in);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load map " + mapFilePath, e);
+        }
+    }
+
+    /**
+     * Decode one level of a pack; only that level's block is read and decompressed.
+     */
+    public MapData readMapData(LevelPack pack, String levelId) {
+        try {
+            return pack.read(levelId);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load level " + levelId, e);
+        }
+    }
+
+    /**
+     * Open a level pack, or return it if already open. Only its table of contents is read.
+     * Synchronized: the async loader's worker and the GL thread (prefetch, hot reload) both
+     * open packs, and each pack must be opened once.
+     */
+    public synchronized LevelPack openPack(String packPath) {
+        LevelPack pack = packs.get(packPath);
+        if (pack != null) return pack;
+
+        FileHandle file = Gdx.files.internal(packPath);
+        if (!file.exists()) {
+            throw new IllegalArgumentException("Level pack not found: " + packPath);
+        }
+        try {
+            if (file.type() != Files.FileType.Classpath && file.file().exists()) {
+                pack = LevelPack.open(file.file().toPath());
+            } else {
+                pack = LevelPack.open(ByteBuffer.wrap(file.readBytes()));
+            }
         } catch (IOException e) {
-            throw new RuntimeException("Failed to load map properties", e);
+            throw new RuntimeException("Failed to open level pack " + packPath, e);
         }
+        packs.put(packPath, pack);
+        return pack;
+    }
 
-        int maxX = 0;
-        int maxY = 0;
-        for (Object keyObj : props.keySet()) {
-            String key = (String) keyObj;
-            String[] parts = key.split(",");
-            int x = Integer.parseInt(parts[0]);
-            int y = Integer.parseInt(parts[1]);
-            if (x > maxX) maxX = x;
-            if (y > maxY) maxY = y;
+    /**
+     * Serve an unchanged map from the cache; otherwise parse, validate and store it.
+     */
+    private MapData readCached(byte[] source) throws IOException {
+        String key = MapCache.key(source);
+        MapData map = cache.get(key);
+        if (map != null) return map;
+
+        map = PropertiesMapFormat.read(new ByteArrayInputStream(source));
+        validate(map);
+        cache.put(key, map);
+        return map;
+    }
+
+    /**
+     * Create the maze objects for parsed map data and validate it.
+     */
+    public MazeLoadResult build(MapData map) {
+        MazeLoadResult result = prepare();
+        // already blocking the caller, so the level images are decoded and uploaded right away
+        textures.decodeQueued();
+        textures.uploadDecoded(Integer.MAX_VALUE);
+        try {
+            return build(map, result, null);
+        } catch (RuntimeException e) {
+            result.dispose();
+            throw e;
         }
+    }
 
-        Maze maze = new Maze(maxX + 1, maxY + 1);
+    /**
+     * Acquire the level textures into a new, empty result. Must run on the GL thread; images
+     * not in the atlas only get stand-in textures here and are queued, see
+     * {@link #decodeQueuedTextures()}. The objects can then be built on any thread with
+     * {@link #build(MapData, MazeLoadResult, IntConsumer)}.
+     */
+    public MazeLoadResult prepare() {
+        MazeLoadResult result = new MazeLoadResult();
+        acquireTextures(result);
+        return result;
+    }
 
-        // Load textures from correct paths
-        Texture wallTex = loadTexture("textures/obstacles/trap_spike.png");
-        Texture entryTex = loadTexture("textures/characters/line_green.png");
-        Texture exitTex = loadTexture("textures/obstacles/laser_grid.png");
-        Texture trapTex = loadTexture("textures/obstacles/trap_spike.png");
-        Texture patrolEnemyTex = loadTexture("textures/obstacles/enemy_patrol.png");
-        Texture kamikazeTex = loadTexture("textures/obstacles/enemy_kamikaze.png");
-        Texture keyTex = loadTexture("textures/items/key.png");
-        Texture heartTex = loadTexture("textures/items/heart.png");
+    /**
+     * Fill a prepared result from map data. Touches no GL state, so it may run on a worker;
+     * on failure the caller still owns the result's texture references.
+     *
+     * @param rowsBuilt optional callback with the number of rows created so far
+     */
+    MazeLoadResult build(MapData map, MazeLoadResult result, IntConsumer rowsBuilt) {
+        // Reject broken maps before any objects are created
+        if (!map.validated) validate(map);
 
+        Maze maze = new Maze(map.width, map.height);
         Entry entry = null;
         Exit exit = null;
 
-        for (Object keyObj : props.keySet()) {
-            String key = (String) keyObj;
-            String value = props.getProperty(key);
-
-            String[] parts = key.split(",");
-            int x = Integer.parseInt(parts[0]);
-            int y = Integer.parseInt(parts[1]);
-            int type = Integer.parseInt(value);
-
-            GameObject obj = null;
-
-            switch (type) {
-                case 0:  // Wall
-                    obj = new Wall(x, y, wallTex);
-                    break;
-                case 1:  // Entry
-                    entry = new Entry(x, y, entryTex);
-                    obj = entry;
-                    break;
-                case 2:  // Exit
-                    exit = new Exit(x, y, exitTex);
-                    obj = exit;
-                    break;
-                case 3:  // Trap
-                    obj = new Trap(x, y, trapTex);
-                    break;
-                case 4:  // Enemy
-                    obj = new PatrolEnemy(x, y, patrolEnemyTex);
-                    break;
-                case 5:  // Key
-                    obj = new Key(x, y, keyTex);
-                    break;
-                case 6:  // Heart
-                    obj = new HeartPickup(x, y, heartTex);
-                    break;
-                case 7:  // Laser Grid
-                    LaserGrid.FireDirection dir = (x + y) % 2 == 0 ?
-                        LaserGrid.FireDirection.HORIZONTAL : LaserGrid.FireDirection.VERTICAL;
-                    obj = new LaserGrid(x, y, exitTex, dir);
-                    break;
-                default:
-                    break;
-            }
-
-            if (obj != null) {
+        for (int y = 0; y < map.height; y++) {
+            for (int x = 0; x < map.width; x++) {
+                GameObject obj = createObject(result, map.get(x, y), x, y);
+                if (obj == null) continue;
+                if (obj instanceof Entry) entry = (Entry) obj;
+                if (obj instanceof Exit) exit = (Exit) obj;
                 maze.set(x, y, obj);
             }
+            if (rowsBuilt != null) rowsBuilt.accept(y + 1);
         }
 
-        // Validate exit is reachable
-        validateMazeReachability(maze, entry, exit);
+        // Label regions once; reachability queries are O(1) afterwards
+        RegionMap regions = new RegionMap(maze);
 
-        MazeLoadResult result = new MazeLoadResult();
         result.maze = maze;
         result.entry = entry;
         result.exit = exit;
+        result.regions = regions;
         return result;
     }
 
     /**
-     * Load texture with fallback. If file doesn't exist, creates placeholder.
+     * Decode level images queued by {@link #prepare()}; safe on any thread.
      */
-    private Texture loadTexture(String path) {
-        FileHandle file = Gdx.files.internal(path);
-        if (file.exists()) {
-            return new Texture(file);
-        } else {
-            Gdx.app.log("WARN", "Texture not found: " + path + " - using placeholder");
-            return createPlaceholderTexture();
-        }
+    void decodeQueuedTextures() {
+        textures.decodeQueued();
     }
 
     /**
-     * Create a simple placeholder texture.
+     * Upload up to {@code max} decoded level images. GL thread only.
      */
-    private Texture createPlaceholderTexture() {
-        com.badlogic.gdx.graphics.Pixmap pixmap = new com.badlogic.gdx.graphics.Pixmap(32, 32, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
-        pixmap.setColor(0.5f, 0.5f, 0.5f, 1);
-        pixmap.fill();
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        return texture;
+    int uploadQueuedTextures(int max) {
+        return textures.uploadDecoded(max);
     }
 
     /**
-     * Use DFS to validate that exit is reachable from entry.
+     * Create the object for one map tile code, or null for empty/unknown codes.
+     * Uses the textures acquired into {@code level} by {@link #prepare()}; safe on any thread.
      */
-    private void validateMazeReachability(Maze maze, Entry entry, Exit exit) {
-        if (entry == null || exit == null) {
-            throw new RuntimeException("Entry or Exit is null");
+    public GameObject createObject(MazeLoadResult level, byte type, int x, int y) {
+        if (level.wallTex == null) {
+            throw new IllegalStateException("Level textures not acquired; call prepare() first");
         }
-
-        GridPosition entryPos = new GridPosition((int)entry.getPosition().x, (int)entry.getPosition().y);
-        GridPosition exitPos = new GridPosition((int)exit.getPosition().x, (int)exit.getPosition().y);
-
-        Set<GridPosition> visited = new HashSet<>();
-        Stack<GridPosition> stack = new Stack<>();
-        stack.push(entryPos);
-
-        while (!stack.isEmpty()) {
-            GridPosition pos = stack.pop();
-            if (visited.contains(pos)) continue;
-            visited.add(pos);
-
-            if (pos.equals(exitPos)) {
-                Gdx.app.log("MAZE", "Exit is reachable from entry - maze is valid");
-                return;
-            }
-
-            int[][] directions = {{0,1}, {0,-1}, {1,0}, {-1,0}};
-            for (int[] dir : directions) {
-                int nextX = pos.x + dir[0];
-                int nextY = pos.y + dir[1];
-                GridPosition next = new GridPosition(nextX, nextY);
-
-                if (!visited.contains(next) &&
-                    maze.isInside(nextX, nextY) &&
-                    !maze.isWall(nextX, nextY)) {
-                    stack.push(next);
-                }
-            }
+        switch (type) {
+            case MapData.WALL:
+                return new Wall(x, y, level.wallTex);
+            case MapData.ENTRY:
+                return new Entry(x, y, level.entryTex);
+            case MapData.EXIT:
+                return new Exit(x, y, level.exitTex);
+            case MapData.TRAP:
+                return new Trap(x, y, level.trapTex);
+            case MapData.ENEMY:
+                return new PatrolEnemy(x, y, level.patrolEnemyTex);
+            case MapData.KEY:
+                return new Key(x, y, level.keyTex);
+            case MapData.HEART:
+                return new HeartPickup(x, y, level.heartTex);
+            case MapData.LASER:
+                LaserGrid.FireDirection dir = (x + y) % 2 == 0 ?
+                    LaserGrid.FireDirection.HORIZONTAL : LaserGrid.FireDirection.VERTICAL;
+                return new LaserGrid(x, y, level.exitTex, dir);
+            default:
+                return null;
         }
+    }
+
+    private void acquireTextures(MazeLoadResult result) {
+        TextureRegistry.Owner owner = textures.newOwner();
+        result.textures = owner;
+        result.wallTex = owner.acquireQueued(WALL_TEXTURE);
+        result.floorTex = owner.acquireQueued(FLOOR_TEXTURE);
+        result.entryTex = owner.acquireQueued(ENTRY_TEXTURE);
+        result.exitTex = owner.acquireQueued(EXIT_TEXTURE);
+        result.trapTex = owner.acquireQueued(TRAP_TEXTURE);
+        result.patrolEnemyTex = owner.acquireQueued(PATROL_ENEMY_TEXTURE);
+        result.kamikazeTex = owner.acquireQueued(KAMIKAZE_TEXTURE);
+        result.keyTex = owner.acquireQueued(KEY_TEXTURE);
+        result.heartTex = owner.acquireQueued(HEART_TEXTURE);
+    }
 
-        throw new RuntimeException("Exit unreachable from entry - invalid maze!");
+    private void validate(MapData map) {
+        VALIDATORS.get().validate(map);
+        map.validated = true;
+        Gdx.app.log("MAZE", "Exit is reachable from entry - maze is valid");
     }
 }
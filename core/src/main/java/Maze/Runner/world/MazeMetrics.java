@@ -0,0 +1,30 @@
+package Maze.Runner.world;
+
+import java.util.Locale;
+
+/**
+ * Difficulty-related measurements of a map, filled in by {@link MazeAnalyzer}.
+ * Lengths and distances are in tiles.
+ */
+public class MazeMetrics {
+
+    public int openTiles;
+    public int solutionLength = -1;   // shortest entry-to-exit path, -1 if unreachable
+    public int deadEnds;
+    public float deadEndRatio;        // dead-end tiles per open tile
+    public float branchingFactor;     // side openings per tile of the solution path
+    public int hazards;               // traps and enemies
+    public int hazardsOnPath;
+    public float hazardDistance;      // mean distance from a hazard to the solution path, 0 without hazards
+
+    public boolean isSolvable() {
+        return solutionLength >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+            "path %d, dead ends %.3f, branching %.3f, hazards %d (%d on path, mean distance %.1f)",
+            solutionLength, deadEndRatio, branchingFactor, hazards, hazardsOnPath, hazardDistance);
+    }
+}
@@ -0,0 +1,116 @@
+package Maze.Runner.world;
+
+/**
+ * Sliding window of tile rows over an {@link EllerMazeStream} for endless mode.
+ * {@link #update(long)} keeps rows generated a fixed distance ahead of the focus row (e.g. the
+ * camera) and discards rows that fall too far behind it, reusing their slots in a ring of
+ * packed wall words. Memory is fixed by width and window height.
+ */
+public class MazeRowWindow {
+
+    private final EllerMazeStream stream;
+    private final int rowsBehind;
+    private final int rowsAhead;
+    private final int capacity;
+    private final int wordsPerRow;
+    private final long[] rows;
+    private final long[] scratch;
+    private long firstRow;
+    private long endRow;
+
+    public MazeRowWindow(EllerMazeStream stream, int rowsBehind, int rowsAhead) {
+        if (rowsBehind < 0 || rowsAhead < 0) {
+            throw new IllegalArgumentException("Window distances must be >= 0");
+        }
+        this.stream = stream;
+        this.rowsBehind = rowsBehind;
+        this.rowsAhead = rowsAhead;
+        this.capacity = rowsBehind + rowsAhead + 1;
+        this.wordsPerRow = stream.getWordsPerRow();
+        this.rows = new long[capacity * wordsPerRow];
+        this.scratch = new long[wordsPerRow];
+        this.firstRow = stream.getRowsEmitted();
+        this.endRow = firstRow;
+    }
+
+    /**
+     * Move the window so rows [focusRow - rowsBehind, focusRow + rowsAhead] are resident.
+     *
+     * @return number of rows generated
+     */
+    public int update(long focusRow) {
+        firstRow = Math.max(firstRow, focusRow - rowsBehind);
+        if (endRow < firstRow) endRow = firstRow;
+
+        int generated = 0;
+        while (endRow <= focusRow + rowsAhead) {
+            if (stream.getRowsEmitted() != endRow) skipTo(endRow);
+            int slot = (int) (endRow % capacity) * wordsPerRow;
+            if (!stream.nextRow(scratch)) break;
+            System.arraycopy(scratch, 0, rows, slot, wordsPerRow);
+            endRow++;
+            generated++;
+            if (endRow - firstRow > capacity) firstRow = endRow - capacity;
+        }
+        return generated;
+    }
+
+    // The focus jumped past rows that were never resident: generate and drop them
+    private void skipTo(long row) {
+        while (stream.getRowsEmitted() < row && stream.nextRow(scratch)) {
+            // discarded
+        }
+    }
+
+    public boolean isResident(long row) {
+        return row >= firstRow && row < endRow;
+    }
+
+    /**
+     * Whether a tile is a wall; tiles outside the width or the resident rows count as walls.
+     */
+    public boolean isWall(int x, long row) {
+        if (x < 0 || x >= stream.getTileWidth() || !isResident(row)) return true;
+        return (rows[(int) (row % capacity) * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    /**
+     * Packed wall word of a resident row, laid out like {@link WallBitmap#getWord(int, int)}.
+     */
+    public long getWord(long row, int wordIndex) {
+        if (!isResident(row)) {
+            throw new IllegalArgumentException("Row " + row + " is not resident");
+        }
+        return rows[(int) (row % capacity) * wordsPerRow + wordIndex];
+    }
+
+    /**
+     * Copy the resident rows into a wall bitmap, oldest row at y = 0.
+     */
+    public WallBitmap toWallBitmap() {
+        WallBitmap walls = new WallBitmap(stream.getTileWidth(), (int) (endRow - firstRow));
+        for (long row = firstRow; row < endRow; row++) {
+            int base = (int) (row % capacity) * wordsPerRow;
+            for (int w = 0; w < wordsPerRow; w++) {
+                walls.setWord((int) (row - firstRow), w, rows[base + w]);
+            }
+        }
+        return walls;
+    }
+
+    public long getFirstRow() {
+        return firstRow;
+    }
+
+    public long getEndRow() {
+        return endRow;
+    }
+
+    public int getWidth() {
+        return stream.getTileWidth();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
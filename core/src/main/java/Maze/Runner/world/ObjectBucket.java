@@ -0,0 +1,46 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.GameObject;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.function.Consumer;
+
+/**
+ * Unordered object list with O(1) add/remove (swap with last) and allocation-free iteration.
+ */
+final class ObjectBucket {
+
+    final Array<GameObject> items = new Array<>(false, 16, GameObject[]::new);
+    private final ObjectIntMap<GameObject> slots = new ObjectIntMap<>();
+
+    void add(GameObject obj) {
+        if (slots.containsKey(obj)) return;
+        slots.put(obj, items.size);
+        items.add(obj);
+    }
+
+    void remove(GameObject obj) {
+        int slot = slots.remove(obj, -1);
+        if (slot < 0) return;
+        GameObject last = items.pop();
+        if (last != obj) {
+            items.set(slot, last);
+            slots.put(last, slot);
+        }
+    }
+
+    void forEach(Consumer<? super GameObject> visitor) {
+        GameObject[] array = items.items;
+        for (int i = 0, n = items.size; i < n; i++) {
+            visitor.accept(array[i]);
+        }
+    }
+
+    void update(float deltaTime) {
+        GameObject[] array = items.items;
+        for (int i = 0, n = items.size; i < n; i++) {
+            array[i].update(deltaTime);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.GameObject;
+import Maze.Runner.gameobjects.StaticGameObject;
+
+/**
+ * Buckets {@link Maze} sorts its objects into, so per-frame code only visits what can change.
+ */
+public enum ObjectCategory {
+    WALL,
+    STATIC,     // entry, exit, traps: never change on their own
+    ANIMATED,   // static position but update() does work, e.g. LaserGrid
+    PICKUP,
+    DYNAMIC;    // moving entities such as enemies
+
+    private static final ObjectCategory[] VALUES = values();
+
+    public static ObjectCategory of(GameObject obj) {
+        switch (TileKind.of(obj)) {
+            case TileKind.WALL:
+                return WALL;
+            case TileKind.LASER:
+                return ANIMATED;
+            case TileKind.KEY:
+            case TileKind.HEART:
+            case TileKind.POWER_UP:
+                return PICKUP;
+            case TileKind.ENEMY:
+                return DYNAMIC;
+            case TileKind.OTHER:
+                return obj instanceof StaticGameObject ? STATIC : DYNAMIC;
+            default:
+                return STATIC;
+        }
+    }
+
+    static int count() {
+        return VALUES.length;
+    }
+}
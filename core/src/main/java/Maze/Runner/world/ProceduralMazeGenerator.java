@@ -1,4 +1,378 @@
 package Maze.Runner.world;
 
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates perfect mazes (exactly one path between any two cells) with a pluggable
+ * {@link MazeAlgorithm} and a seeded {@link RandomXS128}: the same algorithm, seed and size
+ * always give the same maze. A grid of w x h cells becomes (2w + 1) x (2h + 1) tiles.
+ * Output goes straight into the tile storage of a wall-filled {@link Maze}, or into a
+ * {@link MapData} for the headless load pipeline; {@link #stream(int)} produces endless mazes
+ * row by row, {@link #generateMapTiled} spreads very large mazes over a ForkJoinPool and
+ * {@link #generateForDifficulty} searches for the candidate closest to a {@link DifficultyTarget}.
+ * Needs no GL context.
+ */
 public class ProceduralMazeGenerator {
+
+    public static final MazeAlgorithm BACKTRACKER = new BacktrackerAlgorithm();
+    public static final MazeAlgorithm KRUSKAL = new KruskalAlgorithm();
+    public static final MazeAlgorithm WILSON = new WilsonAlgorithm();
+    public static final MazeAlgorithm GROWING_TREE = new GrowingTreeAlgorithm(0.5f);
+
+    // Tiled mode, non-perfect: extra doors per this many cells of tile border
+    private static final int CELLS_PER_EXTRA_DOOR = 16;
+
+    /**
+     * Best candidate of a {@link #generateForDifficulty} search.
+     */
+    public static class SearchResult {
+        public MapData map;
+        public MazeMetrics metrics;
+        public float score;
+        public int candidate;       // index of the winning candidate
+        public int candidates;      // candidates evaluated
+        public long elapsedNanos;
+    }
+
+    private final MazeAlgorithm algorithm;
+    private final RandomXS128 random;
+
+    public ProceduralMazeGenerator(MazeAlgorithm algorithm, long seed) {
+        this.algorithm = algorithm;
+        this.random = new RandomXS128(seed);
+    }
+
+    /**
+     * Built-in algorithm by name: backtracker, kruskal, wilson or growing-tree.
+     */
+    public static MazeAlgorithm algorithm(String name) {
+        switch (name) {
+            case "backtracker":
+                return BACKTRACKER;
+            case "kruskal":
+                return KRUSKAL;
+            case "wilson":
+                return WILSON;
+            case "growing-tree":
+                return GROWING_TREE;
+            default:
+                throw new IllegalArgumentException("Unknown maze algorithm: " + name);
+        }
+    }
+
+    /**
+     * Restart the random sequence; each generate call otherwise continues it.
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    public MazeAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Tiles along an axis of the given number of cells.
+     */
+    public static int tiles(int cells) {
+        return cells * 2 + 1;
+    }
+
+    /**
+     * Generate into a new maze's tile kinds (no objects; walls are {@link TileKind#WALL}).
+     */
+    public Maze generate(int cellsWide, int cellsHigh) {
+        checkSize(cellsWide, cellsHigh);
+        Maze maze = new Maze(tiles(cellsWide), tiles(cellsHigh), TileKind.WALL);
+        generate(cellsWide, cellsHigh, (x, y) -> maze.setTileKind(x, y, TileKind.EMPTY));
+        return maze;
+    }
+
+    /**
+     * Generate as map codes, with the entry in the first cell and the exit in the last.
+     */
+    public MapData generateMap(int cellsWide, int cellsHigh) {
+        checkSize(cellsWide, cellsHigh);
+        MapData map = new MapData(tiles(cellsWide), tiles(cellsHigh));
+        Arrays.fill(map.codes, MapData.WALL);
+        byte[] codes = map.codes;
+        int width = map.width;
+        generate(cellsWide, cellsHigh, (x, y) -> codes[y * width + x] = MapData.NONE);
+        map.set(1, 1, MapData.ENTRY);
+        map.set(map.width - 2, map.height - 2, MapData.EXIT);
+        return map;
+    }
+
+    /**
+     * Like {@link #generateMap}, but splits the cell grid into tileCells x tileCells tiles that
+     * are generated independently on the pool, each with its own seed derived from this
+     * generator, so the result does not depend on scheduling. Every tile is a spanning tree of
+     * its cells; a union-find pass over the tile adjacency graph then opens one door per
+     * spanning-tree edge, joining the tiles into a single perfect maze. With
+     * {@code perfect = false} every tile border gets extra doors instead, which adds loops and
+     * hides the tile seams.
+     */
+    public MapData generateMapTiled(int cellsWide, int cellsHigh, int tileCells, boolean perfect, ForkJoinPool pool) {
+        checkSize(cellsWide, cellsHigh);
+        if (tileCells < 1) {
+            throw new IllegalArgumentException("Tile size must be at least one cell: " + tileCells);
+        }
+        MapData map = new MapData(tiles(cellsWide), tiles(cellsHigh));
+        Arrays.fill(map.codes, MapData.WALL);
+        int tilesX = (cellsWide + tileCells - 1) / tileCells;
+        int tilesY = (cellsHigh + tileCells - 1) / tileCells;
+        long seed = random.nextLong();
+
+        pool.invoke(new TileRange(algorithm, map, cellsWide, cellsHigh, tileCells, tilesX, seed, 0, tilesX * tilesY));
+        stitchTiles(map, cellsWide, cellsHigh, tileCells, tilesX, tilesY, perfect, new RandomXS128(seed ^ 0x5DEECE66DL));
+
+        map.set(1, 1, MapData.ENTRY);
+        map.set(map.width - 2, map.height - 2, MapData.EXIT);
+        return map;
+    }
+
+    private static class TileRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MazeAlgorithm algorithm;
+        private final MapData map;
+        private final int cellsWide;
+        private final int cellsHigh;
+        private final int tileCells;
+        private final int tilesX;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        TileRange(MazeAlgorithm algorithm, MapData map, int cellsWide, int cellsHigh, int tileCells,
+                  int tilesX, long seed, int from, int to) {
+            this.algorithm = algorithm;
+            this.map = map;
+            this.cellsWide = cellsWide;
+            this.cellsHigh = cellsHigh;
+            this.tileCells = tileCells;
+            this.tilesX = tilesX;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new TileRange(algorithm, map, cellsWide, cellsHigh, tileCells, tilesX, seed, from, mid),
+                    new TileRange(algorithm, map, cellsWide, cellsHigh, tileCells, tilesX, seed, mid, to));
+                return;
+            }
+            int cellX = (from % tilesX) * tileCells;
+            int cellY = (from / tilesX) * tileCells;
+            int w = Math.min(tileCells, cellsWide - cellX);
+            int h = Math.min(tileCells, cellsHigh - cellY);
+            // Tiles own disjoint cells and never open their own outer border, so no locking is needed
+            byte[] codes = map.codes;
+            int width = map.width;
+            int origin = 2 * cellY * width + 2 * cellX;
+            algorithm.carve(w, h, new RandomXS128(seed + from * 0x9E3779B97F4A7C15L),
+                (x, y) -> codes[origin + y * width + x] = MapData.NONE);
+        }
+    }
+
+    private static void stitchTiles(MapData map, int cellsWide, int cellsHigh, int tileCells,
+                                    int tilesX, int tilesY, boolean perfect, RandomXS128 random) {
+        // Edge = tile << 1 | direction, 0 = to the right neighbour, 1 = to the one above
+        int[] edges = new int[(tilesX - 1) * tilesY + tilesX * (tilesY - 1)];
+        int count = 0;
+        for (int ty = 0; ty < tilesY; ty++) {
+            for (int tx = 0; tx < tilesX; tx++) {
+                int tile = ty * tilesX + tx;
+                if (tx + 1 < tilesX) edges[count++] = tile << 1;
+                if (ty + 1 < tilesY) edges[count++] = (tile << 1) | 1;
+            }
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int edge = edges[j];
+            edges[j] = edges[i];
+            edges[i] = edge;
+        }
+
+        DisjointSet sets = new DisjointSet(tilesX * tilesY);
+        for (int i = 0; i < count; i++) {
+            int tile = edges[i] >>> 1;
+            boolean up = (edges[i] & 1) != 0;
+            int neighbour = up ? tile + tilesX : tile + 1;
+            boolean treeEdge = sets.union(tile, neighbour);
+            if (perfect && !treeEdge) continue;
+
+            int tx = tile % tilesX;
+            int ty = tile / tilesX;
+            // Cells along the shared border, and the doors to open in it
+            int start = (up ? tx : ty) * tileCells;
+            int length = Math.min(tileCells, (up ? cellsWide : cellsHigh) - start);
+            int doors = perfect ? 1 : 1 + length / CELLS_PER_EXTRA_DOOR;
+            int border = 2 * (up ? ty + 1 : tx + 1) * tileCells;
+            for (int d = 0; d < doors; d++) {
+                int along = 2 * (start + random.nextInt(length)) + 1;
+                if (up) {
+                    map.codes[border * map.width + along] = MapData.NONE;
+                } else {
+                    map.codes[along * map.width + border] = MapData.NONE;
+                }
+            }
+        }
+    }
+
+    /**
+     * Generate-and-score search: every worker of the pool generates candidates with seeds
+     * derived from this generator, measures them with its own {@link MazeAnalyzer} and keeps
+     * its best, until the time budget runs out (each worker finishes at least one candidate).
+     * Ties go to the lowest candidate index. Which candidates are tried depends on how many fit
+     * in the budget, but a candidate's maze only depends on its index.
+     * Candidates have no traps or enemies, so the target's hazard distance is not scored; use
+     * the overload with content rules for that.
+     */
+    public SearchResult generateForDifficulty(int cellsWide, int cellsHigh, DifficultyTarget target,
+                                              long budgetMillis, ForkJoinPool pool) {
+        return generateForDifficulty(cellsWide, cellsHigh, target, null, budgetMillis, pool);
+    }
+
+    /**
+     * Like {@link #generateForDifficulty(int, int, DifficultyTarget, long, ForkJoinPool)}, but
+     * every candidate is furnished by a {@link ContentPlacer} with {@code content} (seeded from
+     * the candidate index) before it is scored, so trap and enemy placement counts too.
+     * Candidates whose keys do not fit are skipped.
+     */
+    public SearchResult generateForDifficulty(int cellsWide, int cellsHigh, DifficultyTarget target,
+                                              ContentPlacer.Rules content, long budgetMillis, ForkJoinPool pool) {
+        checkSize(cellsWide, cellsHigh);
+        long seed = random.nextLong();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        AtomicInteger nextCandidate = new AtomicInteger();
+
+        List<ForkJoinTask<SearchResult>> tasks = new ArrayList<>();
+        for (int i = 0; i < pool.getParallelism(); i++) {
+            tasks.add(pool.submit(() -> searchCandidates(cellsWide, cellsHigh, target, content, seed, deadline,
+                nextCandidate)));
+        }
+        SearchResult best = null;
+        for (ForkJoinTask<SearchResult> task : tasks) {
+            SearchResult result = task.join();
+            if (result.map == null) continue;
+            if (best == null || isBetter(result.score, result.candidate, best)) best = result;
+        }
+        if (best == null) {
+            throw new RuntimeException("No candidate could be furnished within " + budgetMillis + " ms");
+        }
+        best.candidates = nextCandidate.get();
+        best.elapsedNanos = System.nanoTime() - start;
+        return best;
+    }
+
+    private SearchResult searchCandidates(int cellsWide, int cellsHigh, DifficultyTarget target,
+                                          ContentPlacer.Rules content, long seed, long deadline,
+                                          AtomicInteger nextCandidate) {
+        ProceduralMazeGenerator generator = new ProceduralMazeGenerator(algorithm, seed);
+        MazeAnalyzer analyzer = new MazeAnalyzer();
+        ContentPlacer placer = content != null ? new ContentPlacer() : null;
+        RandomXS128 placement = new RandomXS128(seed);
+        SearchResult best = new SearchResult();
+        MazeMetrics metrics = new MazeMetrics();
+        do {
+            int candidate = nextCandidate.getAndIncrement();
+            long candidateSeed = seed + candidate * 0x9E3779B97F4A7C15L;
+            generator.setSeed(candidateSeed);
+            MapData map = generator.generateMap(cellsWide, cellsHigh);
+            if (placer != null) {
+                placement.setSeed(candidateSeed ^ 0x5DEECE66DL);
+                try {
+                    placer.place(map, content, placement);
+                } catch (RuntimeException e) {
+                    continue;   // no room for the keys in this one
+                }
+                // Placement already has the distance maps; walls did not change
+                placer.measure(map, metrics);
+            } else {
+                analyzer.measure(map, metrics);
+            }
+            float score = target.score(metrics);
+            if (best.map == null || isBetter(score, candidate, best)) {
+                best.map = map;
+                best.score = score;
+                best.candidate = candidate;
+                // Swap instead of copying; the old winner's metrics become scratch
+                MazeMetrics previous = best.metrics;
+                best.metrics = metrics;
+                metrics = previous != null ? previous : new MazeMetrics();
+            }
+        } while (System.nanoTime() < deadline);
+        return best;
+    }
+
+    private static boolean isBetter(float score, int candidate, SearchResult best) {
+        return score < best.score || (score == best.score && candidate < best.candidate);
+    }
+
+    /**
+     * Endless maze of the given width, generated row by row with Eller's algorithm.
+     * The stream gets its own generator seeded from this one, so it is reproducible too.
+     */
+    public EllerMazeStream stream(int cellsWide) {
+        return new EllerMazeStream(cellsWide, new RandomXS128(random.nextLong()));
+    }
+
+    /**
+     * Run the algorithm into any carver; the target must start out as all walls.
+     */
+    public void generate(int cellsWide, int cellsHigh, MazeAlgorithm.Carver out) {
+        checkSize(cellsWide, cellsHigh);
+        algorithm.carve(cellsWide, cellsHigh, random, out);
+    }
+
+    private static void checkSize(int cellsWide, int cellsHigh) {
+        if (cellsWide < 1 || cellsHigh < 1) {
+            throw new IllegalArgumentException("Maze needs at least one cell: " + cellsWide + "x" + cellsHigh);
+        }
+        if ((long) tiles(cellsWide) * tiles(cellsHigh) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze too large: " + cellsWide + "x" + cellsHigh + " cells");
+        }
+    }
+
+    static void openCell(MazeAlgorithm.Carver out, int cellsWide, int cell) {
+        out.open((cell % cellsWide) * 2 + 1, (cell / cellsWide) * 2 + 1);
+    }
+
+    /**
+     * Open the wall tile between two neighbouring cells.
+     */
+    static void openPassage(MazeAlgorithm.Carver out, int cellsWide, int a, int b) {
+        out.open(a % cellsWide + b % cellsWide + 1, a / cellsWide + b / cellsWide + 1);
+    }
+
+    /**
+     * Collect the unvisited neighbours of a cell into {@code out}; returns how many there are.
+     */
+    static int unvisitedNeighbours(int cell, int cellsWide, int cellsHigh, long[] visited, int[] out) {
+        int cx = cell % cellsWide;
+        int n = 0;
+        if (cx + 1 < cellsWide && !isSet(visited, cell + 1)) out[n++] = cell + 1;
+        if (cx > 0 && !isSet(visited, cell - 1)) out[n++] = cell - 1;
+        if (cell + cellsWide < cellsWide * cellsHigh && !isSet(visited, cell + cellsWide)) out[n++] = cell + cellsWide;
+        if (cell >= cellsWide && !isSet(visited, cell - cellsWide)) out[n++] = cell - cellsWide;
+        return n;
+    }
+
+    private static boolean isSet(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
 }
@@ -0,0 +1,115 @@
+package Maze.Runner.world;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads the original {@code x,y=type} .properties map format.
+ * The bytes are parsed in one streaming pass without creating Strings; entries are collected
+ * in a primitive buffer and turned into {@link MapData} once the size is known.
+ * Supports the subset of .properties syntax the maps use: blank lines, '#'/'!' comments,
+ * '=' or ':' separators and surrounding whitespace.
+ */
+public final class PropertiesMapFormat {
+
+    public static final String EXTENSION = ".properties";
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    // Numbers are rejected once another digit could overflow an int
+    private static final int MAX_NUMBER_PREFIX = Integer.MAX_VALUE / 10;
+
+    private PropertiesMapFormat() {
+    }
+
+    public static MapData read(InputStream in) throws IOException {
+        // x, y, type triples
+        int[] entries = new int[3 * 1024];
+        int count = 0;
+        int maxX = 0;
+        int maxY = 0;
+
+        byte[] buffer = new byte[READ_BUFFER_BYTES];
+        int line = 1;
+        int field = 0;          // 0 = x, 1 = y, 2 = type
+        int value = 0;
+        boolean digits = false;
+        boolean comment = false;
+        int x = 0;
+        int y = 0;
+
+        int read;
+        boolean eof = false;
+        while (!eof) {
+            read = in.read(buffer);
+            if (read < 0) {
+                // Treat end of input as a final line break
+                eof = true;
+                buffer[0] = '\n';
+                read = 1;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = buffer[i];
+                if (b == '\n' || b == '\r') {
+                    if (!comment) {
+                        if (field == 2 && digits) {
+                            if (count * 3 == entries.length) entries = Arrays.copyOf(entries, entries.length * 2);
+                            entries[count * 3] = x;
+                            entries[count * 3 + 1] = y;
+                            entries[count * 3 + 2] = value;
+                            count++;
+                            if (x > maxX) maxX = x;
+                            if (y > maxY) maxY = y;
+                        } else if (field != 0 || digits) {
+                            throw new IOException("Malformed map entry on line " + line);
+                        }
+                    }
+                    if (b == '\n') line++;
+                    field = 0;
+                    value = 0;
+                    digits = false;
+                    comment = false;
+                    continue;
+                }
+                if (comment || b == ' ' || b == '\t' || b == '\f') continue;
+
+                if (b >= '0' && b <= '9') {
+                    if (value >= MAX_NUMBER_PREFIX) {
+                        throw new IOException("Malformed map entry on line " + line);
+                    }
+                    value = value * 10 + (b - '0');
+                    digits = true;
+                } else if (field == 0 && !digits && (b == '#' || b == '!')) {
+                    comment = true;
+                } else if (b == ',' && field == 0 && digits) {
+                    x = value;
+                    field = 1;
+                    value = 0;
+                    digits = false;
+                } else if ((b == '=' || b == ':') && field == 1 && digits) {
+                    y = value;
+                    field = 2;
+                    value = 0;
+                    digits = false;
+                } else {
+                    throw new IOException("Malformed map entry on line " + line);
+                }
+            }
+        }
+
+        if (count == 0) {
+            throw new IOException("Map has no tiles");
+        }
+        if ((long) (maxX + 1) * (maxY + 1) > Integer.MAX_VALUE) {
+            throw new IOException("Map too large: " + (maxX + 1) + "x" + (maxY + 1));
+        }
+        MapData map = new MapData(maxX + 1, maxY + 1);
+        for (int e = 0; e < count; e++) {
+            int type = entries[e * 3 + 2];
+            // Unknown codes leave the cell empty but still count towards the size, like the old loader
+            map.set(entries[e * 3], entries[e * 3 + 1], type <= MapData.LASER ? (byte) type : MapData.NONE);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,139 @@
+package Maze.Runner.world;
+
+import java.util.Arrays;
+
+/**
+ * Checks that the exit can be reached from the entry without allocating per cell.
+ * Flood-fills whole horizontal spans on a {@link WallBitmap}: spans are found with word
+ * scans, marked in a packed long[] visited set, and seeds are int-encoded ((y << shift) | x)
+ * on a reusable int stack. Buffers are kept between calls; not thread-safe.
+ */
+public class ReachabilityValidator {
+
+    private long[] visited = new long[0];
+    private int[] stack = new int[256];
+    private WallBitmap scratch;
+
+    /**
+     * Throws if the map has no entry/exit or the exit cannot be reached from the entry.
+     */
+    public void validate(MapData map) {
+        if (!map.hasEntry() || !map.hasExit()) {
+            throw new RuntimeException("Entry or Exit is null");
+        }
+        scratch = map.toWallBitmap(scratch);
+        if (!isReachable(scratch, map.entryX, map.entryY, map.exitX, map.exitY)) {
+            throw new RuntimeException("Exit unreachable from entry - invalid maze!");
+        }
+    }
+
+    public boolean isReachable(WallBitmap walls, int fromX, int fromY, int toX, int toY) {
+        int width = walls.getWidth();
+        int height = walls.getHeight();
+        if (fromX < 0 || fromY < 0 || fromX >= width || fromY >= height) return false;
+        if (toX < 0 || toY < 0 || toX >= width || toY >= height) return false;
+        if (walls.get(fromX, fromY) || walls.get(toX, toY)) return false;
+
+        // Cells are encoded with a shift rather than y * width so decoding needs no division
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(width - 1, 1));
+        if (((long) height << shift) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Maze too large to validate: " + width + "x" + height);
+        }
+        int xMask = (1 << shift) - 1;
+        int wordsPerRow = walls.getWordsPerRow();
+        int words = wordsPerRow * height;
+        if (visited.length < words) {
+            visited = new long[words];
+        } else {
+            Arrays.fill(visited, 0, words, 0L);
+        }
+
+        int size = 0;
+        stack[size++] = (fromY << shift) | fromX;
+        while (size > 0) {
+            int seed = stack[--size];
+            int y = seed >>> shift;
+            int x = seed & xMask;
+            int base = y * wordsPerRow;
+            if ((visited[base + (x >>> 6)] & (1L << x)) != 0) continue;
+
+            int left = x;
+            int right = x;
+            if (x > 0 && !walls.get(x - 1, y)) left = previousWall(walls, y, x - 1) + 1;
+            if (x + 1 < width && !walls.get(x + 1, y)) {
+                right = walls.nextWallInRow(y, x + 1);
+                right = right < 0 ? width - 1 : right - 1;
+            }
+            if (y == toY && toX >= left && toX <= right) return true;
+            markSpan(base, left, right);
+
+            if (y + 1 < height) size = pushRuns(walls, y + 1, shift, left, right, size);
+            if (y > 0) size = pushRuns(walls, y - 1, shift, left, right, size);
+        }
+        return false;
+    }
+
+    /**
+     * Largest wall x < fromX on row y, or -1.
+     */
+    private static int previousWall(WallBitmap walls, int y, int fromX) {
+        int w = fromX >>> 6;
+        // Bits below fromX within its word
+        long bits = walls.getWord(y, w) & ((1L << fromX) - 1);
+        while (true) {
+            if (bits != 0) return (w << 6) + 63 - Long.numberOfLeadingZeros(bits);
+            if (--w < 0) return -1;
+            bits = walls.getWord(y, w);
+        }
+    }
+
+    private void markSpan(int base, int left, int right) {
+        int w0 = left >>> 6;
+        int w1 = right >>> 6;
+        long firstMask = -1L << left;
+        long lastMask = -1L >>> (63 - (right & 63));
+        if (w0 == w1) {
+            visited[base + w0] |= firstMask & lastMask;
+            return;
+        }
+        visited[base + w0] |= firstMask;
+        for (int w = w0 + 1; w < w1; w++) visited[base + w] = -1L;
+        visited[base + w1] |= lastMask;
+    }
+
+    /**
+     * Push the first cell of every open, unvisited run on row y within [left, right].
+     */
+    private int pushRuns(WallBitmap walls, int y, int shift, int left, int right, int size) {
+        int row = y << shift;
+        int base = y * walls.getWordsPerRow();
+        if (left == right) {
+            // Single-cell span, common in corridor mazes
+            int w = left >>> 6;
+            long bit = 1L << left;
+            if (((walls.getWord(y, w) | visited[base + w]) & bit) == 0) {
+                if (size == stack.length) stack = Arrays.copyOf(stack, size * 2);
+                stack[size++] = row | left;
+            }
+            return size;
+        }
+        int w0 = left >>> 6;
+        int w1 = right >>> 6;
+        long carry = 0;   // top bit of the previous word's candidates
+        for (int w = w0; w <= w1; w++) {
+            long mask = -1L;
+            if (w == w0) mask &= -1L << left;
+            if (w == w1) mask &= -1L >>> (63 - (right & 63));
+            long open = ~walls.getWord(y, w) & ~visited[base + w] & mask;
+            // A run starts where a candidate bit has no candidate directly left of it
+            long starts = open & ~((open << 1) | carry);
+            carry = open >>> 63;
+            while (starts != 0) {
+                if (size == stack.length) stack = Arrays.copyOf(stack, size * 2);
+                stack[size++] = row | ((w << 6) + Long.numberOfTrailingZeros(starts));
+                starts &= starts - 1;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,358 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.GameObject;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Connected-component labels of the walkable (non-wall) cells of a {@link Maze}.
+ * Built once with a scanline flood fill and then kept current through {@link MazeListener},
+ * so "is B reachable from A", "how big is this region" and "which pickups are cut off"
+ * are O(1) per query instead of a search each time.
+ */
+public class RegionMap implements MazeListener {
+
+    public static final int NO_REGION = -1;
+    private static final int UNLABELED = -2;
+    // While closeCell() runs, cells reached by search s are labelled SEARCH_MARK - s
+    private static final int SEARCH_MARK = -3;
+
+    private final Maze maze;
+    private final WallBitmap walls;
+    private final int width;
+    private final int height;
+    private final int[] labels;
+    private final IntArray sizes = new IntArray();
+    private final IntArray freeLabels = new IntArray();
+    private final IntArray stack = new IntArray();
+    private int regionCount;
+
+    // One search per open neighbour of a new wall; each queue doubles as its visited list
+    private final IntArray[] searches = new IntArray[4];
+    private final int[] searchHeads = new int[4];
+    private final int[] searchGroup = new int[4];
+    private final boolean[] searchDone = new boolean[4];
+    private int searchCount;
+    private int openGroups;
+
+    public RegionMap(Maze maze) {
+        this.maze = maze;
+        this.walls = maze.getWallBitmap();
+        this.width = maze.getWidth();
+        this.height = maze.getHeight();
+        this.labels = new int[width * height];
+        for (int s = 0; s < searches.length; s++) {
+            searches[s] = new IntArray();
+        }
+        rebuild();
+        maze.addListener(this);
+    }
+
+    /**
+     * Relabel the whole maze from scratch.
+     */
+    public void rebuild() {
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                labels[row + x] = walls.get(x, y) ? NO_REGION : UNLABELED;
+            }
+        }
+        sizes.clear();
+        freeLabels.clear();
+        regionCount = 0;
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] == UNLABELED) {
+                int label = newLabel();
+                sizes.set(label, relabel(i, UNLABELED, label));
+            }
+        }
+    }
+
+    /**
+     * Region id of (x, y), or {@link #NO_REGION} for walls and cells outside the maze.
+     */
+    public int regionAt(int x, int y) {
+        if (!maze.isInside(x, y)) return NO_REGION;
+        return labels[y * width + x];
+    }
+
+    public boolean isReachable(int fromX, int fromY, int toX, int toY) {
+        int a = regionAt(fromX, fromY);
+        return a != NO_REGION && a == regionAt(toX, toY);
+    }
+
+    public boolean isReachable(GameObject from, GameObject to) {
+        return isReachable(
+            MathUtils.floor(from.getPosition().x), MathUtils.floor(from.getPosition().y),
+            MathUtils.floor(to.getPosition().x), MathUtils.floor(to.getPosition().y));
+    }
+
+    /**
+     * Number of walkable cells connected to (x, y), 0 for walls.
+     */
+    public int regionSize(int x, int y) {
+        int label = regionAt(x, y);
+        return label == NO_REGION ? 0 : sizes.get(label);
+    }
+
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    /**
+     * Adds every pickup (key, heart, power-up) that cannot be reached from (x, y) to {@code out}.
+     *
+     * @return number of pickups added
+     */
+    public int unreachablePickups(int x, int y, Array<GameObject> out) {
+        int label = regionAt(x, y);
+        Array<GameObject> pickups = maze.getObjects(ObjectCategory.PICKUP);
+        int found = 0;
+        for (int i = 0; i < pickups.size; i++) {
+            GameObject obj = pickups.get(i);
+            int at = regionAt(MathUtils.floor(obj.getPosition().x), MathUtils.floor(obj.getPosition().y));
+            if (label == NO_REGION || at != label) {
+                out.add(obj);
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void onTileChanged(int x, int y, byte oldKind, byte newKind) {
+        boolean wasWall = oldKind == TileKind.WALL;
+        boolean isWall = newKind == TileKind.WALL;
+        if (wasWall == isWall) return;
+        if (isWall) {
+            closeCell(x, y);
+        } else {
+            openCell(x, y);
+        }
+    }
+
+    /**
+     * A wall became walkable: join it to its neighbours, merging their regions into the largest one.
+     */
+    private void openCell(int x, int y) {
+        int i = y * width + x;
+        int largest = NO_REGION;
+        for (int d = 0; d < 4; d++) {
+            int n = neighbourLabel(x, y, d);
+            if (n != NO_REGION && (largest == NO_REGION || sizes.get(n) > sizes.get(largest))) {
+                largest = n;
+            }
+        }
+        if (largest == NO_REGION) {
+            largest = newLabel();
+            sizes.set(largest, 0);
+        }
+        labels[i] = largest;
+        sizes.incr(largest, 1);
+
+        for (int d = 0; d < 4; d++) {
+            int n = neighbourLabel(x, y, d);
+            if (n != NO_REGION && n != largest) {
+                int moved = relabel(neighbourIndex(x, y, d), n, largest);
+                sizes.incr(largest, moved);
+                freeLabel(n);
+            }
+        }
+    }
+
+    /**
+     * A walkable cell became a wall: its region may have split. One search per open neighbour
+     * runs in lockstep; searches that meet are still connected, and a group of them that runs
+     * out of cells first is a split-off piece and gets a new label. The search stops as soon as
+     * one group is left, so closing a cell in a loop or an open room costs as much as the way
+     * around it, and a real split only ever walks the smaller side.
+     */
+    private void closeCell(int x, int y) {
+        int i = y * width + x;
+        int old = labels[i];
+        labels[i] = NO_REGION;
+        if (old < 0) return;
+        sizes.incr(old, -1);
+
+        int openNeighbours = 0;
+        for (int d = 0; d < 4; d++) {
+            if (neighbourLabel(x, y, d) == old) openNeighbours++;
+        }
+        if (openNeighbours == 0) {
+            freeLabel(old);
+            return;
+        }
+        // A single open neighbour cannot be a split
+        if (openNeighbours == 1) return;
+
+        searchCount = 0;
+        for (int d = 0; d < 4; d++) {
+            if (neighbourLabel(x, y, d) != old) continue;
+            int s = searchCount++;
+            int n = neighbourIndex(x, y, d);
+            searches[s].clear();
+            searches[s].add(n);
+            searchHeads[s] = 0;
+            searchGroup[s] = s;
+            searchDone[s] = false;
+            labels[n] = SEARCH_MARK - s;
+        }
+        openGroups = searchCount;
+
+        while (openGroups > 1) {
+            for (int s = 0; s < searchCount && openGroups > 1; s++) {
+                if (!searchDone[s] && searchHeads[s] < searches[s].size) expand(s, old);
+            }
+            for (int g = 0; g < searchCount && openGroups > 1; g++) {
+                if (isExhausted(g)) splitOff(g, old);
+            }
+        }
+
+        // Whatever was visited on the side that keeps the old label gets it back
+        for (int s = 0; s < searchCount; s++) {
+            if (searchDone[s]) continue;
+            IntArray cells = searches[s];
+            for (int c = 0; c < cells.size; c++) {
+                labels[cells.get(c)] = old;
+            }
+        }
+    }
+
+    // Visit the next cell of search s: claim unvisited neighbours, join searches it runs into
+    private void expand(int s, int old) {
+        IntArray queue = searches[s];
+        int i = queue.get(searchHeads[s]++);
+        int x = i % width;
+        int y = i / width;
+        if (y + 1 < height) visit(s, i + width, old);
+        if (y > 0) visit(s, i - width, old);
+        if (x > 0) visit(s, i - 1, old);
+        if (x + 1 < width) visit(s, i + 1, old);
+    }
+
+    private void visit(int s, int i, int old) {
+        int label = labels[i];
+        if (label == old) {
+            labels[i] = SEARCH_MARK - s;
+            searches[s].add(i);
+        } else if (label <= SEARCH_MARK) {
+            int from = searchGroup[SEARCH_MARK - label];
+            int into = searchGroup[s];
+            if (from == into) return;
+            for (int t = 0; t < searchCount; t++) {
+                if (searchGroup[t] == from) searchGroup[t] = into;
+            }
+            openGroups--;
+        }
+    }
+
+    // True if group g is still open and none of its searches has cells left to visit
+    private boolean isExhausted(int g) {
+        boolean member = false;
+        for (int s = 0; s < searchCount; s++) {
+            if (searchGroup[s] != g || searchDone[s]) continue;
+            if (searchHeads[s] < searches[s].size) return false;
+            member = true;
+        }
+        return member;
+    }
+
+    // Group g has visited its whole piece without meeting the others: label it as a new region
+    private void splitOff(int g, int old) {
+        int label = newLabel();
+        int moved = 0;
+        for (int s = 0; s < searchCount; s++) {
+            if (searchGroup[s] != g) continue;
+            IntArray cells = searches[s];
+            for (int c = 0; c < cells.size; c++) {
+                labels[cells.get(c)] = label;
+            }
+            moved += cells.size;
+            searchDone[s] = true;
+        }
+        sizes.set(label, moved);
+        sizes.incr(old, -moved);
+        openGroups--;
+    }
+
+    /**
+     * Scanline fill: give every cell connected to {@code start} that has label {@code from} the label {@code to}.
+     *
+     * @return number of cells relabelled
+     */
+    private int relabel(int start, int from, int to) {
+        int count = 0;
+        stack.clear();
+        stack.add(start);
+        while (stack.size > 0) {
+            int i = stack.pop();
+            if (labels[i] != from) continue;
+            int y = i / width;
+            int row = y * width;
+            int left = i - row;
+            while (left > 0 && labels[row + left - 1] == from) left--;
+            int right = i - row;
+            while (right < width - 1 && labels[row + right + 1] == from) right++;
+
+            for (int x = left; x <= right; x++) {
+                labels[row + x] = to;
+            }
+            count += right - left + 1;
+            if (y > 0) pushSpans(row - width, left, right, from);
+            if (y < height - 1) pushSpans(row + width, left, right, from);
+        }
+        return count;
+    }
+
+    // Push one seed per run of matching cells in [left, right] of the given row
+    private void pushSpans(int row, int left, int right, int from) {
+        boolean inSpan = false;
+        for (int x = left; x <= right; x++) {
+            if (labels[row + x] == from) {
+                if (!inSpan) {
+                    stack.add(row + x);
+                    inSpan = true;
+                }
+            } else {
+                inSpan = false;
+            }
+        }
+    }
+
+    private int neighbourLabel(int x, int y, int direction) {
+        switch (direction) {
+            case 0: return y + 1 < height ? labels[(y + 1) * width + x] : NO_REGION;
+            case 1: return y > 0 ? labels[(y - 1) * width + x] : NO_REGION;
+            case 2: return x > 0 ? labels[y * width + x - 1] : NO_REGION;
+            default: return x + 1 < width ? labels[y * width + x + 1] : NO_REGION;
+        }
+    }
+
+    private int neighbourIndex(int x, int y, int direction) {
+        switch (direction) {
+            case 0: return (y + 1) * width + x;
+            case 1: return (y - 1) * width + x;
+            case 2: return y * width + x - 1;
+            default: return y * width + x + 1;
+        }
+    }
+
+    private int newLabel() {
+        regionCount++;
+        if (freeLabels.size > 0) return freeLabels.pop();
+        sizes.add(0);
+        return sizes.size - 1;
+    }
+
+    private void freeLabel(int label) {
+        regionCount--;
+        sizes.set(label, 0);
+        freeLabels.add(label);
+    }
+
+    public void dispose() {
+        maze.removeListener(this);
+    }
+}
@@ -0,0 +1,156 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.GameObject;
+import Maze.Runner.gameobjects.PositionListener;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Uniform grid broadphase over {@link GameObject#getPosition()} (tile coordinates).
+ * Objects are treated as 1x1 tile boxes and filed under the cell of their lower-left corner.
+ * Registered objects update their cell themselves through {@link PositionListener},
+ * so moving enemies cost nothing unless they cross a cell border.
+ */
+public class SpatialHash implements PositionListener {
+
+    // Every GameObject occupies one tile
+    private static final float OBJECT_SIZE = 1f;
+
+    private final int cellSize;
+    private final IntMap<Array<GameObject>> cells = new IntMap<>();
+    private final ObjectIntMap<GameObject> cellOf = new ObjectIntMap<>();
+    private final Array<Array<GameObject>> pool = new Array<>();
+
+    /**
+     * @param cellSize edge length of a hash cell in tiles
+     */
+    public SpatialHash(int cellSize) {
+        if (cellSize < 1) throw new IllegalArgumentException("cellSize must be >= 1");
+        this.cellSize = cellSize;
+    }
+
+    public void insert(GameObject obj) {
+        if (cellOf.containsKey(obj)) return;
+        int key = keyFor(obj.getPosition().x, obj.getPosition().y);
+        cellOf.put(obj, key);
+        bucket(key).add(obj);
+        obj.addPositionListener(this);
+    }
+
+    public void remove(GameObject obj) {
+        if (!cellOf.containsKey(obj)) return;
+        int key = cellOf.remove(obj, 0);
+        Array<GameObject> bucket = cells.get(key);
+        if (bucket != null) {
+            bucket.removeValue(obj, true);
+            if (bucket.size == 0) pool.add(cells.remove(key));
+        }
+        obj.removePositionListener(this);
+    }
+
+    /**
+     * Re-file an object after its position changed; a no-op unless it crossed into another cell.
+     */
+    public void update(GameObject obj) {
+        if (!cellOf.containsKey(obj)) return;
+        int oldKey = cellOf.get(obj, 0);
+        int newKey = keyFor(obj.getPosition().x, obj.getPosition().y);
+        if (oldKey == newKey) return;
+
+        Array<GameObject> old = cells.get(oldKey);
+        if (old != null) {
+            old.removeValue(obj, true);
+            if (old.size == 0) pool.add(cells.remove(oldKey));
+        }
+        cellOf.put(obj, newKey);
+        bucket(newKey).add(obj);
+    }
+
+    @Override
+    public void onMoved(GameObject obj, float oldX, float oldY) {
+        update(obj);
+    }
+
+    /**
+     * Collect all objects whose tile box overlaps the given box (tile units) into {@code out}.
+     * Does not clear {@code out} and does not allocate.
+     *
+     * @return number of objects added
+     */
+    public int query(float x, float y, float width, float height, Array<GameObject> out) {
+        int cx0 = cellCoord(x - OBJECT_SIZE);
+        int cy0 = cellCoord(y - OBJECT_SIZE);
+        int cx1 = cellCoord(x + width);
+        int cy1 = cellCoord(y + height);
+        int found = 0;
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                Array<GameObject> bucket = cells.get(key(cx, cy));
+                if (bucket == null) continue;
+                GameObject[] items = bucket.items;
+                for (int i = 0, n = bucket.size; i < n; i++) {
+                    GameObject obj = items[i];
+                    float ox = obj.getPosition().x;
+                    float oy = obj.getPosition().y;
+                    // Keys wrap, so filter out objects from aliased cells as well
+                    if (ox < x + width && ox + OBJECT_SIZE > x
+                        && oy < y + height && oy + OBJECT_SIZE > y) {
+                        out.add(obj);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Objects overlapping the tile box of {@code obj}, excluding itself.
+     */
+    public int queryOverlapping(GameObject obj, Array<GameObject> out) {
+        int start = out.size;
+        query(obj.getPosition().x, obj.getPosition().y, OBJECT_SIZE, OBJECT_SIZE, out);
+        for (int i = out.size - 1; i >= start; i--) {
+            if (out.get(i) == obj) out.removeIndex(i);
+        }
+        return out.size - start;
+    }
+
+    public int size() {
+        return cellOf.size;
+    }
+
+    public void clear() {
+        for (Array<GameObject> bucket : cells.values()) {
+            for (int i = 0; i < bucket.size; i++) {
+                bucket.get(i).removePositionListener(this);
+            }
+            bucket.clear();
+            pool.add(bucket);
+        }
+        cells.clear();
+        cellOf.clear();
+    }
+
+    private Array<GameObject> bucket(int key) {
+        Array<GameObject> bucket = cells.get(key);
+        if (bucket == null) {
+            bucket = pool.size > 0 ? pool.pop() : new Array<>(false, 8, GameObject[]::new);
+            cells.put(key, bucket);
+        }
+        return bucket;
+    }
+
+    private int cellCoord(float tile) {
+        return Math.floorDiv((int) Math.floor(tile), cellSize);
+    }
+
+    private int keyFor(float x, float y) {
+        return key(cellCoord(x), cellCoord(y));
+    }
+
+    private static int key(int cx, int cy) {
+        return (cy << 16) | (cx & 0xFFFF);
+    }
+}
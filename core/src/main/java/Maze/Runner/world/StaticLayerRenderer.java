@@ -0,0 +1,359 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.GameObject;
+import Maze.Runner.utils.Constants;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * Draws the never-moving part of a maze (floor, walls, entry, exit) from {@link SpriteCache}s.
+ * Geometry is compiled in the same 32x32 chunks Maze stores cells in, grouped 2x2 into one
+ * small cache each. Groups are compiled when they come near the camera and the least recently
+ * drawn ones are dropped past {@link #MAX_RESIDENT_GROUPS}, so memory and compile time follow
+ * the screen size rather than the map size. Chunks touched by Maze.set() are recompiled in place;
+ * the per-frame SpriteBatch work is left to dynamic objects.
+ */
+public class StaticLayerRenderer implements MazeListener, Disposable {
+
+    // Spare entries per chunk so a few extra tiles can be recompiled in place
+    private static final int SLACK_PER_CHUNK = 16;
+    private static final int MAX_INDEXED_SPRITES = 8191;
+
+    // 2x2 chunks per cache: at most ~4k floor/wall quads, so every group fits an indexed cache
+    private static final int GROUP_SHIFT = 1;
+    private static final int GROUP_CHUNKS = 1 << GROUP_SHIFT;
+
+    // Compiled groups kept around; well above the ~12 visible at the widest zoom
+    private static final int MAX_RESIDENT_GROUPS = 32;
+
+    // Groups next to the view compiled ahead of time per frame
+    private static final int PREFETCH_GROUPS_PER_FRAME = 1;
+
+    private static class Group {
+        final int gx;
+        final int gy;
+        final SpriteCache cache;
+        final int[] cacheIds = new int[GROUP_CHUNKS * GROUP_CHUNKS];
+        final int[] capacity = new int[GROUP_CHUNKS * GROUP_CHUNKS];
+        int dirtyMask;
+        long lastUsed;
+
+        Group(int gx, int gy, SpriteCache cache) {
+            this.gx = gx;
+            this.gy = gy;
+            this.cache = cache;
+        }
+    }
+
+    private final Maze maze;
+    private final TextureRegion floorRegion;
+    private final TextureRegion wallRegion;
+    private Texture placeholderTexture;
+    private final int chunksX;
+    private final int chunksY;
+    private final int groupsX;
+    private final int groupsY;
+    private final IntMap<Group> groups = new IntMap<>();
+    private final Array<Group> dirtyGroups = new Array<>(false, 16, Group[]::new);
+    private long frame;
+
+    /**
+     * Nothing is compiled here; the first {@link #render} compiles what is on screen.
+     *
+     * @param floorRegion drawn under every non-wall cell, may be null
+     * @param wallRegion  used for walls that have no object of their own (e.g. generated ones);
+     *                    a grey placeholder is used if null
+     */
+    public StaticLayerRenderer(Maze maze, TextureRegion floorRegion, TextureRegion wallRegion) {
+        this.maze = maze;
+        this.floorRegion = floorRegion;
+        this.wallRegion = wallRegion != null ? wallRegion : createPlaceholderRegion();
+        this.chunksX = (maze.getWidth() + MazeChunk.MASK) >> MazeChunk.SHIFT;
+        this.chunksY = (maze.getHeight() + MazeChunk.MASK) >> MazeChunk.SHIFT;
+        this.groupsX = (chunksX + GROUP_CHUNKS - 1) >> GROUP_SHIFT;
+        this.groupsY = (chunksY + GROUP_CHUNKS - 1) >> GROUP_SHIFT;
+        maze.addListener(this);
+    }
+
+    /**
+     * Drop every compiled group; they are compiled again as they come into view.
+     */
+    public void rebuildAll() {
+        for (Group group : groups.values()) {
+            group.cache.dispose();
+        }
+        groups.clear();
+        dirtyGroups.clear();
+    }
+
+    /**
+     * Whether cells of this kind are drawn by the static layer; everything else is left to the caller.
+     */
+    public static boolean isCompiled(byte kind) {
+        return kind == TileKind.WALL || kind == TileKind.ENTRY || kind == TileKind.EXIT;
+    }
+
+    @Override
+    public void onTileChanged(int x, int y, byte oldKind, byte newKind) {
+        int cx = x >> MazeChunk.SHIFT;
+        int cy = y >> MazeChunk.SHIFT;
+        // groups not compiled yet read the maze when they are
+        Group group = groups.get(groupKey(cx >> GROUP_SHIFT, cy >> GROUP_SHIFT));
+        if (group == null) return;
+        if (group.dirtyMask == 0) dirtyGroups.add(group);
+        group.dirtyMask |= 1 << localIndex(cx, cy);
+    }
+
+    private void rebuildDirty() {
+        for (int i = 0; i < dirtyGroups.size; i++) {
+            Group group = dirtyGroups.get(i);
+            int mask = group.dirtyMask;
+            group.dirtyMask = 0;
+            int gx = group.gx;
+            int gy = group.gy;
+            for (int l = 0; l < group.cacheIds.length; l++) {
+                if ((mask & (1 << l)) == 0) continue;
+                int cx = (gx << GROUP_SHIFT) + (l & (GROUP_CHUNKS - 1));
+                int cy = (gy << GROUP_SHIFT) + (l >> GROUP_SHIFT);
+                if (countChunk(cx, cy) > group.capacity[l]) {
+                    // outgrew its slack: compile the whole group again
+                    group.cache.dispose();
+                    groups.put(groupKey(gx, gy), compileGroup(gx, gy));
+                    break;
+                }
+                group.cache.beginCache(group.cacheIds[l]);
+                addChunk(group.cache, cx, cy);
+                group.cache.endCache();
+            }
+        }
+        dirtyGroups.clear();
+    }
+
+    public void render(Matrix4 projection) {
+        render(projection, 0, 0, maze.getWidth() - 1, maze.getHeight() - 1);
+    }
+
+    /**
+     * Draw only the chunks intersecting the inclusive tile range, compiling the groups they
+     * belong to if needed. Must not be called between SpriteBatch.begin() and end().
+     */
+    public void render(Matrix4 projection, int tileX0, int tileY0, int tileX1, int tileY1) {
+        if (dirtyGroups.size > 0) rebuildDirty();
+
+        int cx0 = Math.max(0, tileX0 >> MazeChunk.SHIFT);
+        int cy0 = Math.max(0, tileY0 >> MazeChunk.SHIFT);
+        int cx1 = Math.min(chunksX - 1, tileX1 >> MazeChunk.SHIFT);
+        int cy1 = Math.min(chunksY - 1, tileY1 >> MazeChunk.SHIFT);
+        if (cx0 > cx1 || cy0 > cy1) return;
+        frame++;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        int gx0 = cx0 >> GROUP_SHIFT;
+        int gy0 = cy0 >> GROUP_SHIFT;
+        int gx1 = cx1 >> GROUP_SHIFT;
+        int gy1 = cy1 >> GROUP_SHIFT;
+        for (int gy = gy0; gy <= gy1; gy++) {
+            for (int gx = gx0; gx <= gx1; gx++) {
+                Group group = acquireGroup(gx, gy);
+                group.cache.setProjectionMatrix(projection);
+                group.cache.begin();
+                int lx0 = Math.max(cx0, gx << GROUP_SHIFT);
+                int ly0 = Math.max(cy0, gy << GROUP_SHIFT);
+                int lx1 = Math.min(cx1, ((gx + 1) << GROUP_SHIFT) - 1);
+                int ly1 = Math.min(cy1, ((gy + 1) << GROUP_SHIFT) - 1);
+                for (int cy = ly0; cy <= ly1; cy++) {
+                    for (int cx = lx0; cx <= lx1; cx++) {
+                        group.cache.draw(group.cacheIds[localIndex(cx, cy)]);
+                    }
+                }
+                group.cache.end();
+            }
+        }
+
+        prefetchAround(gx0, gy0, gx1, gy1);
+        evictUnused();
+    }
+
+    /**
+     * Compile a few of the groups bordering the view before the camera reaches them.
+     */
+    private void prefetchAround(int gx0, int gy0, int gx1, int gy1) {
+        int budget = PREFETCH_GROUPS_PER_FRAME;
+        for (int gy = Math.max(0, gy0 - 1); gy <= Math.min(groupsY - 1, gy1 + 1) && budget > 0; gy++) {
+            for (int gx = Math.max(0, gx0 - 1); gx <= Math.min(groupsX - 1, gx1 + 1) && budget > 0; gx++) {
+                Group group = groups.get(groupKey(gx, gy));
+                if (group != null) {
+                    group.lastUsed = frame;
+                    continue;
+                }
+                acquireGroup(gx, gy);
+                budget--;
+            }
+        }
+    }
+
+    private Group acquireGroup(int gx, int gy) {
+        int key = groupKey(gx, gy);
+        Group group = groups.get(key);
+        if (group == null) {
+            group = compileGroup(gx, gy);
+            groups.put(key, group);
+        }
+        group.lastUsed = frame;
+        return group;
+    }
+
+    /**
+     * Drop the least recently drawn groups while more than {@link #MAX_RESIDENT_GROUPS} are
+     * compiled; groups used this frame always stay.
+     */
+    private void evictUnused() {
+        while (groups.size > MAX_RESIDENT_GROUPS) {
+            int oldestKey = -1;
+            long oldest = frame;
+            for (IntMap.Entry<Group> entry : groups.entries()) {
+                if (entry.value.lastUsed < oldest) {
+                    oldest = entry.value.lastUsed;
+                    oldestKey = entry.key;
+                }
+            }
+            if (oldestKey < 0) return;
+            Group evicted = groups.remove(oldestKey);
+            evicted.cache.dispose();
+            if (evicted.dirtyMask != 0) {
+                evicted.dirtyMask = 0;
+                dirtyGroups.removeValue(evicted, true);
+            }
+        }
+    }
+
+    private Group compileGroup(int gx, int gy) {
+        int total = 0;
+        int[] capacity = new int[GROUP_CHUNKS * GROUP_CHUNKS];
+        for (int l = 0; l < capacity.length; l++) {
+            int cx = (gx << GROUP_SHIFT) + (l & (GROUP_CHUNKS - 1));
+            int cy = (gy << GROUP_SHIFT) + (l >> GROUP_SHIFT);
+            if (cx >= chunksX || cy >= chunksY) continue;
+            capacity[l] = countChunk(cx, cy) + SLACK_PER_CHUNK;
+            total += capacity[l];
+        }
+
+        Group group = new Group(gx, gy, new SpriteCache(Math.max(total, 1), total <= MAX_INDEXED_SPRITES));
+        System.arraycopy(capacity, 0, group.capacity, 0, capacity.length);
+        for (int l = 0; l < capacity.length; l++) {
+            int cx = (gx << GROUP_SHIFT) + (l & (GROUP_CHUNKS - 1));
+            int cy = (gy << GROUP_SHIFT) + (l >> GROUP_SHIFT);
+            if (cx >= chunksX || cy >= chunksY) continue;
+            group.cache.beginCache();
+            int added = addChunk(group.cache, cx, cy);
+            // Pad with degenerate quads so the cache can later be redefined with up to capacity[l] entries
+            for (int i = added; i < capacity[l]; i++) {
+                group.cache.add(wallRegion, 0, 0, 0, 0);
+            }
+            group.cacheIds[l] = group.cache.endCache();
+        }
+        return group;
+    }
+
+    private int countChunk(int cx, int cy) {
+        int count = 0;
+        int x0 = cx << MazeChunk.SHIFT;
+        int y0 = cy << MazeChunk.SHIFT;
+        int x1 = Math.min(x0 + MazeChunk.SIZE, maze.getWidth());
+        int y1 = Math.min(y0 + MazeChunk.SIZE, maze.getHeight());
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                byte kind = maze.getTileKind(x, y);
+                if (kind == TileKind.WALL) {
+                    count++;
+                    continue;
+                }
+                if (floorRegion != null) count++;
+                if (kind == TileKind.ENTRY || kind == TileKind.EXIT) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Add the chunk's tiles to the cache being defined, grouped by layer to keep texture switches down.
+     *
+     * @return number of entries added
+     */
+    private int addChunk(SpriteCache cache, int cx, int cy) {
+        int x0 = cx << MazeChunk.SHIFT;
+        int y0 = cy << MazeChunk.SHIFT;
+        int x1 = Math.min(x0 + MazeChunk.SIZE, maze.getWidth());
+        int y1 = Math.min(y0 + MazeChunk.SIZE, maze.getHeight());
+        float size = Constants.TILE_SIZE;
+        int added = 0;
+
+        if (floorRegion != null) {
+            for (int y = y0; y < y1; y++) {
+                for (int x = x0; x < x1; x++) {
+                    if (maze.getTileKind(x, y) == TileKind.WALL) continue;
+                    cache.add(floorRegion, x * size, y * size, size, size);
+                    added++;
+                }
+            }
+        }
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                if (maze.getTileKind(x, y) != TileKind.WALL) continue;
+                cache.add(regionAt(x, y, wallRegion), x * size, y * size, size, size);
+                added++;
+            }
+        }
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                byte kind = maze.getTileKind(x, y);
+                if (kind != TileKind.ENTRY && kind != TileKind.EXIT) continue;
+                cache.add(regionAt(x, y, wallRegion), x * size, y * size, size, size);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private int groupKey(int gx, int gy) {
+        return gy * groupsX + gx;
+    }
+
+    private static int localIndex(int cx, int cy) {
+        return ((cy & (GROUP_CHUNKS - 1)) << GROUP_SHIFT) | (cx & (GROUP_CHUNKS - 1));
+    }
+
+    private TextureRegion createPlaceholderRegion() {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(0.5f, 0.5f, 0.5f, 1);
+        pixmap.fill();
+        placeholderTexture = new Texture(pixmap);
+        pixmap.dispose();
+        return new TextureRegion(placeholderTexture);
+    }
+
+    private TextureRegion regionAt(int x, int y, TextureRegion fallback) {
+        GameObject obj = maze.get(x, y);
+        if (obj == null || obj.getSprite() == null) return fallback;
+        return obj.getSprite();
+    }
+
+    @Override
+    public void dispose() {
+        maze.removeListener(this);
+        rebuildAll();
+        if (placeholderTexture != null) {
+            placeholderTexture.dispose();
+            placeholderTexture = null;
+        }
+    }
+}
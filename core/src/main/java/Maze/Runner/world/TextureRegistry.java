@@ -0,0 +1,309 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reference-counted texture regions keyed by image path, shared across screens and level loads.
+ * Images packed into the texture atlas are served as regions of its pages, so everything drawn
+ * from the atlas shares one texture bind. Other images are decoded and uploaded once while anyone
+ * holds them and released when the last holder lets go. Missing files get a grey placeholder.
+ * Images acquired with {@link Owner#acquireQueued} start as a 1x1 stand-in texture; their file is
+ * decoded by {@link #decodeQueued()} on any thread and uploaded into that same texture by
+ * {@link #uploadDecoded(int)} on the GL thread, so regions and sprites made from it stay valid.
+ */
+public class TextureRegistry implements Disposable {
+
+    private static class Upload {
+        final String path;
+        final Texture texture;
+        Pixmap pixmap;
+
+        Upload(String path, Texture texture) {
+            this.path = path;
+            this.texture = texture;
+        }
+    }
+
+    private static class Entry {
+        final TextureRegion region;
+        final boolean owned;    // standalone texture, disposed at zero references
+        int refs;
+
+        Entry(TextureRegion region, boolean owned) {
+            this.region = region;
+            this.owned = owned;
+        }
+    }
+
+    /**
+     * The references held by one owner, such as a screen or a loaded level. Remembers every path
+     * it acquired so they can all be released together.
+     */
+    public static class Owner {
+        private final TextureRegistry registry;
+        private final Array<String> paths = new Array<>();
+
+        private Owner(TextureRegistry registry) {
+            this.registry = registry;
+        }
+
+        /**
+         * Acquire an image from the registry (atlas region when packed); held until {@link #releaseAll()}.
+         */
+        public TextureRegion acquire(String path) {
+            paths.add(path);
+            return registry.acquire(path);
+        }
+
+        /**
+         * Like {@link #acquire} but defers decoding and uploading a standalone image; see
+         * {@link TextureRegistry#decodeQueued()}. Must be called on the GL thread.
+         */
+        public TextureRegion acquireQueued(String path) {
+            paths.add(path);
+            return registry.acquireQueued(path);
+        }
+
+        public void releaseAll() {
+            for (String path : paths) {
+                registry.release(path);
+            }
+            paths.clear();
+        }
+    }
+
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final ConcurrentLinkedQueue<Upload> queued = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Upload> decoded = new ConcurrentLinkedQueue<>();
+    private TextureAtlas atlas;
+
+    /**
+     * A new, empty set of references on this registry.
+     */
+    public Owner newOwner() {
+        return new Owner(this);
+    }
+
+    /**
+     * Serve packed images from this atlas from now on; it is disposed with the registry.
+     */
+    public void setAtlas(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Get the region for an image path such as "main_menu/start_button.png" and add one reference.
+     */
+    public TextureRegion acquire(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            TextureRegion packed = atlas == null ? null : atlas.findRegion(regionName(path));
+            entry = packed != null
+                ? new Entry(packed, false)
+                : new Entry(new TextureRegion(loadTexture(path)), true);
+            entries.put(path, entry);
+        }
+        entry.refs++;
+        return entry.region;
+    }
+
+    /**
+     * Add one reference like {@link #acquire}, but an image that is not packed and not resident
+     * yet only gets a 1x1 stand-in texture here; its decode and upload are queued.
+     */
+    public TextureRegion acquireQueued(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            TextureRegion packed = atlas == null ? null : atlas.findRegion(regionName(path));
+            if (packed != null) {
+                entry = new Entry(packed, false);
+            } else if (!Gdx.files.internal(path).exists()) {
+                entry = new Entry(new TextureRegion(loadTexture(path)), true);
+            } else {
+                Texture standIn = createStandInTexture();
+                entry = new Entry(new TextureRegion(standIn), true);
+                queued.add(new Upload(path, standIn));
+            }
+            entries.put(path, entry);
+        }
+        entry.refs++;
+        return entry.region;
+    }
+
+    /**
+     * Decode the images queued by {@link #acquireQueued} into pixmaps. Touches no GL state, so
+     * loader workers call it; the pixmaps wait for {@link #uploadDecoded(int)}.
+     */
+    public void decodeQueued() {
+        Upload upload;
+        while ((upload = queued.poll()) != null) {
+            try {
+                upload.pixmap = new Pixmap(Gdx.files.internal(upload.path));
+            } catch (RuntimeException e) {
+                Gdx.app.error("TEXTURES", "Could not decode " + upload.path, e);
+                continue;
+            }
+            decoded.add(upload);
+        }
+    }
+
+    /**
+     * Upload up to {@code max} decoded images into their stand-in textures. Call on the GL thread;
+     * images released in the meantime are dropped.
+     *
+     * @return number of textures uploaded
+     */
+    public int uploadDecoded(int max) {
+        int uploaded = 0;
+        Upload upload;
+        while (uploaded < max && (upload = decoded.poll()) != null) {
+            Entry entry = entries.get(upload.path);
+            if (entry == null || entry.region.getTexture() != upload.texture) {
+                upload.pixmap.dispose();
+                continue;
+            }
+            upload.texture.load(new PixmapTextureData(upload.pixmap, null, false, true));
+            uploaded++;
+        }
+        return uploaded;
+    }
+
+    /**
+     * Drop one reference; a standalone texture is disposed when none are left.
+     */
+    public void release(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) return;
+        if (--entry.refs <= 0) {
+            entries.remove(path);
+            if (entry.owned) entry.region.getTexture().dispose();
+        }
+    }
+
+    /**
+     * Atlas region name of an image: its path without the extension (TexturePacker's naming).
+     */
+    static String regionName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(0, dot) : path;
+    }
+
+    public boolean isResident(String path) {
+        return entries.containsKey(path);
+    }
+
+    public int getResidentCount() {
+        return entries.size;
+    }
+
+    /**
+     * Approximate GPU bytes of all resident standalone textures and atlas pages (no mipmaps).
+     */
+    public long getResidentBytes() {
+        long bytes = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.owned) bytes += textureBytes(entry.region.getTexture());
+        }
+        if (atlas != null) {
+            for (Texture page : atlas.getTextures()) {
+                bytes += textureBytes(page);
+            }
+        }
+        return bytes;
+    }
+
+    private static long textureBytes(Texture texture) {
+        return (long) texture.getWidth() * texture.getHeight()
+            * bytesPerPixel(texture.getTextureData().getFormat());
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        if (format == null) return 4;
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    /**
+     * Load texture with fallback. If file doesn't exist, creates placeholder.
+     */
+    private Texture loadTexture(String path) {
+        FileHandle file = Gdx.files.internal(path);
+        if (file.exists()) {
+            return new Texture(file);
+        } else {
+            Gdx.app.log("WARN", "Texture not found: " + path + " - using placeholder");
+            return createPlaceholderTexture();
+        }
+    }
+
+    /**
+     * Transparent 1x1 texture shown until a queued image is uploaded into it.
+     */
+    private Texture createStandInTexture() {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(0, 0, 0, 0);
+        pixmap.fill();
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+
+    /**
+     * Create a simple placeholder texture.
+     */
+    private Texture createPlaceholderTexture() {
+        Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
+        pixmap.setColor(0.5f, 0.5f, 0.5f, 1);
+        pixmap.fill();
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+
+    @Override
+    public String toString() {
+        return getResidentCount() + " textures, " + (getResidentBytes() / 1024) + " KB";
+    }
+
+    /**
+     * Dispose everything regardless of references, e.g. on game exit.
+     */
+    @Override
+    public void dispose() {
+        for (Entry entry : entries.values()) {
+            if (entry.owned) entry.region.getTexture().dispose();
+        }
+        entries.clear();
+        queued.clear();
+        Upload upload;
+        while ((upload = decoded.poll()) != null) {
+            upload.pixmap.dispose();
+        }
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package Maze.Runner.world;
+
+import Maze.Runner.gameobjects.Enemy;
+import Maze.Runner.gameobjects.Entry;
+import Maze.Runner.gameobjects.Exit;
+import Maze.Runner.gameobjects.GameObject;
+import Maze.Runner.gameobjects.HeartPickup;
+import Maze.Runner.gameobjects.Key;
+import Maze.Runner.gameobjects.LaserGrid;
+import Maze.Runner.gameobjects.PowerUp;
+import Maze.Runner.gameobjects.Trap;
+import Maze.Runner.gameobjects.Wall;
+
+/**
+ * Primitive tile kinds stored per cell by {@link Maze}.
+ * Lets hot queries (walls, traps, pickups) read a byte instead of doing instanceof checks.
+ */
+public final class TileKind {
+
+    public static final byte EMPTY = 0;
+    public static final byte WALL = 1;
+    public static final byte ENTRY = 2;
+    public static final byte EXIT = 3;
+    public static final byte TRAP = 4;
+    public static final byte ENEMY = 5;
+    public static final byte LASER = 6;
+
+    // Pickups are kept contiguous so isPickup() is a range check
+    public static final byte KEY = 7;
+    public static final byte HEART = 8;
+    public static final byte POWER_UP = 9;
+
+    public static final byte OTHER = 10;
+
+    private TileKind() {
+    }
+
+    /**
+     * Classify an object once, when it is written into the maze.
+     */
+    public static byte of(GameObject obj) {
+        if (obj == null) return EMPTY;
+        if (obj instanceof Wall) return WALL;
+        if (obj instanceof Entry) return ENTRY;
+        if (obj instanceof Exit) return EXIT;
+        if (obj instanceof Trap) return TRAP;
+        if (obj instanceof Enemy) return ENEMY;
+        if (obj instanceof LaserGrid) return LASER;
+        if (obj instanceof Key) return KEY;
+        if (obj instanceof HeartPickup) return HEART;
+        if (obj instanceof PowerUp) return POWER_UP;
+        return OTHER;
+    }
+
+    public static boolean isPickup(byte kind) {
+        return kind >= KEY && kind <= POWER_UP;
+    }
+}
@@ -0,0 +1,189 @@
+package Maze.Runner.world;
+
+import Maze.Runner.utils.Direction;
+
+import java.util.Arrays;
+
+/**
+ * One bit per cell wall map, packed row by row into longs.
+ * Row queries work on whole 64-cell words, so collision, line-of-sight and
+ * flood-fill code does not have to call isWall() per cell.
+ * Kept in sync by {@link Maze#set(int, int, Maze.Runner.gameobjects.GameObject)}.
+ */
+public class WallBitmap {
+
+    // Neighbour mask bits, one per Direction (1 << ordinal)
+    public static final int MASK_UP = 1 << Direction.UP.ordinal();
+    public static final int MASK_DOWN = 1 << Direction.DOWN.ordinal();
+    public static final int MASK_LEFT = 1 << Direction.LEFT.ordinal();
+    public static final int MASK_RIGHT = 1 << Direction.RIGHT.ordinal();
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    public WallBitmap(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.words = new long[wordsPerRow * height];
+    }
+
+    public boolean get(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        return (words[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    public void set(int x, int y, boolean wall) {
+        int i = y * wordsPerRow + (x >>> 6);
+        if (wall) {
+            words[i] |= 1L << x;
+        } else {
+            words[i] &= ~(1L << x);
+        }
+    }
+
+    /**
+     * Mark every cell as wall or open.
+     */
+    public void fill(boolean wall) {
+        if (!wall) {
+            Arrays.fill(words, 0L);
+            return;
+        }
+        int tail = width & 63;
+        long lastWord = tail == 0 ? -1L : -1L >>> (64 - tail);
+        for (int y = 0; y < height; y++) {
+            int base = y * wordsPerRow;
+            Arrays.fill(words, base, base + wordsPerRow - 1, -1L);
+            words[base + wordsPerRow - 1] = lastWord;
+        }
+    }
+
+    /**
+     * Raw 64-cell word of row y; bit b is cell (wordIndex * 64 + b, y).
+     * Bits past the right edge are always 0.
+     */
+    public long getWord(int y, int wordIndex) {
+        return words[y * wordsPerRow + wordIndex];
+    }
+
+    /**
+     * Overwrite a whole word; bits past the right edge must be 0.
+     */
+    void setWord(int y, int wordIndex, long bits) {
+        words[y * wordsPerRow + wordIndex] = bits;
+    }
+
+    public int getWordsPerRow() {
+        return wordsPerRow;
+    }
+
+    /**
+     * First non-wall x >= fromX on row y, or -1 if the rest of the row is walls.
+     */
+    public int nextOpenInRow(int y, int fromX) {
+        if (fromX < 0) fromX = 0;
+        if (fromX >= width) return -1;
+        int base = y * wordsPerRow;
+        int w = fromX >>> 6;
+        long open = ~words[base + w] & (-1L << fromX);
+        while (true) {
+            if (open != 0) {
+                int x = (w << 6) + Long.numberOfTrailingZeros(open);
+                return x < width ? x : -1;
+            }
+            if (++w == wordsPerRow) return -1;
+            open = ~words[base + w];
+        }
+    }
+
+    /**
+     * First wall x >= fromX on row y, or -1 if the rest of the row is open.
+     */
+    public int nextWallInRow(int y, int fromX) {
+        if (fromX < 0) fromX = 0;
+        if (fromX >= width) return -1;
+        int base = y * wordsPerRow;
+        int w = fromX >>> 6;
+        long walls = words[base + w] & (-1L << fromX);
+        while (true) {
+            if (walls != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(walls);
+            }
+            if (++w == wordsPerRow) return -1;
+            walls = words[base + w];
+        }
+    }
+
+    /**
+     * Is there any wall on row y between x0 and x1 (inclusive, either order)?
+     */
+    public boolean anyWallInRow(int y, int x0, int x1) {
+        if (x0 > x1) {
+            int t = x0;
+            x0 = x1;
+            x1 = t;
+        }
+        if (x0 < 0) x0 = 0;
+        if (x1 >= width) x1 = width - 1;
+        if (x0 > x1) return false;
+
+        int base = y * wordsPerRow;
+        int w0 = x0 >>> 6;
+        int w1 = x1 >>> 6;
+        long firstMask = -1L << x0;
+        long lastMask = -1L >>> (63 - (x1 & 63));
+        if (w0 == w1) {
+            return (words[base + w0] & firstMask & lastMask) != 0;
+        }
+        if ((words[base + w0] & firstMask) != 0) return true;
+        for (int w = w0 + 1; w < w1; w++) {
+            if (words[base + w] != 0) return true;
+        }
+        return (words[base + w1] & lastMask) != 0;
+    }
+
+    /**
+     * Is there any wall in column x between y0 and y1 (inclusive, either order)?
+     */
+    public boolean anyWallInColumn(int x, int y0, int y1) {
+        if (y0 > y1) {
+            int t = y0;
+            y0 = y1;
+            y1 = t;
+        }
+        if (x < 0 || x >= width) return false;
+        if (y0 < 0) y0 = 0;
+        if (y1 >= height) y1 = height - 1;
+
+        int i = y0 * wordsPerRow + (x >>> 6);
+        long bit = 1L << x;
+        for (int y = y0; y <= y1; y++, i += wordsPerRow) {
+            if ((words[i] & bit) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Bit mask (MASK_UP/DOWN/LEFT/RIGHT) of the 4 neighbours of (x, y) that are blocked.
+     * Cells outside the maze count as blocked.
+     */
+    public int blockedNeighbourMask(int x, int y) {
+        int mask = 0;
+        if (y + 1 >= height || get(x, y + 1)) mask |= MASK_UP;
+        if (y - 1 < 0 || get(x, y - 1)) mask |= MASK_DOWN;
+        if (x - 1 < 0 || get(x - 1, y)) mask |= MASK_LEFT;
+        if (x + 1 >= width || get(x + 1, y)) mask |= MASK_RIGHT;
+        return mask;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
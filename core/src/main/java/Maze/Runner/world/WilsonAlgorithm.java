@@ -0,0 +1,61 @@
+package Maze.Runner.world;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Wilson's algorithm: loop-erased random walks from every cell not yet in the tree until they
+ * hit it. Produces a uniform spanning tree, i.e. every perfect maze is equally likely.
+ * Loops are erased implicitly by remembering only the last exit direction of each cell in a
+ * byte[], then retracing the walk from its start.
+ */
+public class WilsonAlgorithm implements MazeAlgorithm {
+
+    // Directions: right, up, left, down
+    private static final int[] DX = {1, 0, -1, 0};
+    private static final int[] DY = {0, 1, 0, -1};
+
+    @Override
+    public void carve(int cellsWide, int cellsHigh, RandomXS128 random, Carver out) {
+        int cells = cellsWide * cellsHigh;
+        long[] inTree = new long[(cells + 63) >>> 6];
+        byte[] exits = new byte[cells];
+        int[] step = {1, cellsWide, -1, -cellsWide};
+
+        int root = random.nextInt(cells);
+        inTree[root >>> 6] |= 1L << root;
+        ProceduralMazeGenerator.openCell(out, cellsWide, root);
+
+        for (int start = 0; start < cells; start++) {
+            if ((inTree[start >>> 6] & (1L << start)) != 0) continue;
+
+            // Walk until the tree is hit, overwriting exits on revisits erases the loops
+            int cell = start;
+            int cx = start % cellsWide;
+            int cy = start / cellsWide;
+            while ((inTree[cell >>> 6] & (1L << cell)) == 0) {
+                int dir;
+                int nx;
+                int ny;
+                do {
+                    dir = random.nextInt(4);
+                    nx = cx + DX[dir];
+                    ny = cy + DY[dir];
+                } while (nx < 0 || ny < 0 || nx >= cellsWide || ny >= cellsHigh);
+                exits[cell] = (byte) dir;
+                cx = nx;
+                cy = ny;
+                cell += step[dir];
+            }
+
+            // Add the loop-erased path to the tree
+            cell = start;
+            while ((inTree[cell >>> 6] & (1L << cell)) == 0) {
+                inTree[cell >>> 6] |= 1L << cell;
+                ProceduralMazeGenerator.openCell(out, cellsWide, cell);
+                int next = cell + step[exits[cell]];
+                ProceduralMazeGenerator.openPassage(out, cellsWide, cell, next);
+                cell = next;
+            }
+        }
+    }
+}